@@ -0,0 +1,90 @@
+package com.example.demo;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// Weighted sampling in constant time (Walker's alias method, built with Vose's algorithm). Each of
+// the n columns holds one value with probability[column] and the rest of its 1/n share goes to
+// alias[column], so a draw is one random column and one coin flip, whatever the weights.
+// Immutable once built, so threads can share a table and draw with their own generators.
+public class AliasTable {
+    private final int[] values;
+    private final double[] probability;
+    private final int[] alias;
+
+    // values[i] is drawn with probability weights[i] / sum(weights)
+    public AliasTable(int[] values, double[] weights) {
+        int n = values.length;
+        if (n == 0 || weights.length != n) {
+            throw new IllegalArgumentException("Need one weight per value and at least one value");
+        }
+        double total = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Invalid weight: " + weight);
+            }
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Weights must not all be zero");
+        }
+
+        this.values = values.clone();
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        // Scale so the average column holds exactly 1, then pair each underfull column with an overfull one
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is full up to rounding error
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1;
+        }
+    }
+
+    // Uniform over the values
+    public static AliasTable uniform(int[] values) {
+        double[] weights = new double[values.length];
+        Arrays.fill(weights, 1);
+        return new AliasTable(values, weights);
+    }
+
+    public int sample(RandomGenerator random) {
+        int column = random.nextInt(values.length);
+        return values[random.nextDouble() < probability[column] ? column : alias[column]];
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public long footprintBytes() {
+        return (long) values.length * (2 * Integer.BYTES + Double.BYTES);
+    }
+}
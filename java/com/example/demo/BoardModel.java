@@ -0,0 +1,172 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+// What the board and keyboard should show, kept apart from the JavaFX nodes. Tiles are indexed by
+// row * wordLength + col and keys by letter (0-25). Every change that actually alters a tile or key
+// is queued once as dirty, so the UI restyles only those nodes. A key only ever moves up to a
+// better state (absent < present < correct), never back down.
+public class BoardModel {
+    public static final int UNSCORED = -1;  // tile typed but not yet scored, or key not yet used
+
+    private final int rows;
+    private final int wordLength;
+    private final char[] letters;  // '\0' for an empty tile
+    private final int[] tileStates;
+    private final int[] keyStates = new int[26];
+
+    private final boolean[] tileDirty;
+    private final int[] dirtyTiles;
+    private int dirtyTileCount;
+    private final boolean[] keyDirty = new boolean[26];
+    private final int[] dirtyKeys = new int[26];
+    private int dirtyKeyCount;
+
+    public interface DirtyVisitor {
+        void visit(int index);
+    }
+
+    public BoardModel(int rows, int wordLength) {
+        this.rows = rows;
+        this.wordLength = wordLength;
+        this.letters = new char[rows * wordLength];
+        this.tileStates = new int[rows * wordLength];
+        this.tileDirty = new boolean[rows * wordLength];
+        this.dirtyTiles = new int[rows * wordLength];
+        clearTiles();
+        clearKeys();
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    public int tileIndex(int row, int col) {
+        return row * wordLength + col;
+    }
+
+    public char letterAt(int tile) {
+        return letters[tile];
+    }
+
+    public int tileState(int tile) {
+        return tileStates[tile];
+    }
+
+    public int keyState(int letter) {
+        return keyStates[letter];
+    }
+
+    // Empties every tile without marking them dirty; for use together with freshly built nodes
+    public void clearTiles() {
+        Arrays.fill(letters, '\0');
+        Arrays.fill(tileStates, UNSCORED);
+        Arrays.fill(tileDirty, false);
+        dirtyTileCount = 0;
+    }
+
+    public void clearKeys() {
+        Arrays.fill(keyStates, UNSCORED);
+        Arrays.fill(keyDirty, false);
+        dirtyKeyCount = 0;
+    }
+
+    // Empties every tile and key in place, marking dirty only those that were showing something
+    public void reset() {
+        for (int tile = 0; tile < letters.length; tile++) {
+            if (letters[tile] != '\0' || tileStates[tile] != UNSCORED) {
+                letters[tile] = '\0';
+                tileStates[tile] = UNSCORED;
+                markTile(tile);
+            }
+        }
+        for (int key = 0; key < keyStates.length; key++) {
+            if (keyStates[key] != UNSCORED) {
+                keyStates[key] = UNSCORED;
+                markKey(key);
+            }
+        }
+    }
+
+    public void setLetter(int row, int col, char letter) {
+        int tile = tileIndex(row, col);
+        if (letters[tile] != letter || tileStates[tile] != UNSCORED) {
+            letters[tile] = letter;
+            tileStates[tile] = UNSCORED;
+            markTile(tile);
+        }
+    }
+
+    public void setTileState(int row, int col, int state) {
+        int tile = tileIndex(row, col);
+        if (tileStates[tile] != state) {
+            tileStates[tile] = state;
+            markTile(tile);
+        }
+    }
+
+    // Fills a row from a scored guess and upgrades the keys of its letters
+    public void scoreRow(int row, CharSequence guess, int pattern) {
+        for (int col = 0; col < guess.length(); col++) {
+            char letter = guess.charAt(col);
+            int state = GuessScorer.stateAt(pattern, col);
+            int tile = tileIndex(row, col);
+            if (letters[tile] != letter || tileStates[tile] != state) {
+                letters[tile] = letter;
+                tileStates[tile] = state;
+                markTile(tile);
+            }
+            upgradeKey(letter, state);
+        }
+    }
+
+    public void upgradeKey(char letter, int state) {
+        int key = WordCodec.letterIndex(letter);
+        if (key >= 0 && state > keyStates[key]) {
+            keyStates[key] = state;
+            markKey(key);
+        }
+    }
+
+    // Visits each dirty tile once, in the order they changed, and clears the dirty set.
+    // Returns the number of tiles visited.
+    public int drainDirtyTiles(DirtyVisitor visitor) {
+        int drained = dirtyTileCount;
+        for (int i = 0; i < drained; i++) {
+            int tile = dirtyTiles[i];
+            tileDirty[tile] = false;
+            visitor.visit(tile);
+        }
+        dirtyTileCount = 0;
+        return drained;
+    }
+
+    public int drainDirtyKeys(DirtyVisitor visitor) {
+        int drained = dirtyKeyCount;
+        for (int i = 0; i < drained; i++) {
+            int key = dirtyKeys[i];
+            keyDirty[key] = false;
+            visitor.visit(key);
+        }
+        dirtyKeyCount = 0;
+        return drained;
+    }
+
+    private void markTile(int tile) {
+        if (!tileDirty[tile]) {
+            tileDirty[tile] = true;
+            dirtyTiles[dirtyTileCount++] = tile;
+        }
+    }
+
+    private void markKey(int key) {
+        if (!keyDirty[key]) {
+            keyDirty[key] = true;
+            dirtyKeys[dirtyKeyCount++] = key;
+        }
+    }
+}
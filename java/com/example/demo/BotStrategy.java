@@ -0,0 +1,70 @@
+package com.example.demo;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+// Picks guesses for automated games. Implementations are shared across simulation threads,
+// so any per-game scratch state has to live in locals or in the GameState.
+public interface BotStrategy {
+
+    // Packed code (see WordCodec) of the next guess for state
+    long nextGuess(GameState state, WordValidator wordValidator, SplittableRandom random);
+
+    static BotStrategy named(String name, WordValidator wordValidator) {
+        switch (name) {
+            case "random":
+                return new RandomCandidateBot();
+            case "first":
+                return new FirstCandidateBot();
+            case "entropy":
+                return new EntropyBot(wordValidator);
+            default:
+                throw new IllegalArgumentException("Unknown bot strategy: " + name);
+        }
+    }
+
+    // Guesses a uniformly random word that is still consistent with the feedback
+    class RandomCandidateBot implements BotStrategy {
+        @Override
+        public long nextGuess(GameState state, WordValidator wordValidator, SplittableRandom random) {
+            CandidateSet candidates = state.getCandidates();
+            int skip = random.nextInt(candidates.count());
+            int candidate = candidates.nextCandidate(0);
+            while (skip-- > 0) {
+                candidate = candidates.nextCandidate(candidate + 1);
+            }
+            return wordValidator.getWordCode(candidate);
+        }
+    }
+
+    // Guesses the first remaining candidate in dictionary order; deterministic and very cheap
+    class FirstCandidateBot implements BotStrategy {
+        @Override
+        public long nextGuess(GameState state, WordValidator wordValidator, SplittableRandom random) {
+            return wordValidator.getWordCode(state.getCandidates().nextCandidate(0));
+        }
+    }
+
+    // Plays the WordleSolver's top suggestion; ranks every word per guess, so it is far slower than the
+    // others. With FeedbackMatrix.FILE_PROPERTY set the ranking reads patterns from the matrix
+    class EntropyBot implements BotStrategy {
+        private final WordleSolver solver;
+
+        public EntropyBot(WordValidator wordValidator) {
+            this(wordValidator, FeedbackMatrix.configured(wordValidator));
+        }
+
+        public EntropyBot(WordValidator wordValidator, FeedbackMatrix feedbackMatrix) {
+            solver = new WordleSolver(wordValidator, feedbackMatrix, ForkJoinPool.commonPool());
+        }
+
+        @Override
+        public long nextGuess(GameState state, WordValidator wordValidator, SplittableRandom random) {
+            if (state.getCandidates().count() <= 2) {
+                return wordValidator.getWordCode(state.getCandidates().nextCandidate(0));
+            }
+            WordleSolver.SolverResult result = solver.suggest(state.getGuessCodes(), state.getGuessPatterns(), 1);
+            return WordCodec.encodeLong(result.suggestions().get(0).word());
+        }
+    }
+}
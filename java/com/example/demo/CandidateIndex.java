@@ -0,0 +1,78 @@
+package com.example.demo;
+
+// Inverted index over a dictionary with one bitset per (position, letter) and one per
+// (letter, minimum count). Built once per dictionary; CandidateSet uses it to narrow the
+// possible answers after each guess with word-wide AND / AND NOT operations.
+public class CandidateIndex {
+    private final int wordCount;
+    private final int wordLength;
+    private final int wordsPerSet;
+    private final long[][] positionLetter;  // [position * 26 + letter]: words with letter at position
+    private final long[][] letterMinCount;  // [letter * wordLength + count - 1]: words with at least count copies
+    private final long[] allWords;
+
+    public CandidateIndex(WordValidator wordValidator) {
+        wordCount = wordValidator.getWordCount();
+        wordLength = wordValidator.getWordLength();
+        wordsPerSet = (wordCount + 63) >>> 6;
+        positionLetter = new long[wordLength * 26][wordsPerSet];
+        letterMinCount = new long[26 * wordLength][wordsPerSet];
+
+        allWords = new long[wordsPerSet];
+        for (int index = 0; index < wordCount; index++) {
+            allWords[index >>> 6] |= 1L << index;
+        }
+
+        int[] letterCounts = new int[26];
+        for (int index = 0; index < wordCount; index++) {
+            long code = wordValidator.getWordCode(index);
+            long bit = 1L << index;
+            int word = index >>> 6;
+            for (int position = 0; position < wordLength; position++) {
+                int letter = WordCodec.letterAt(code, position);
+                positionLetter[position * 26 + letter][word] |= bit;
+                letterCounts[letter]++;
+            }
+            for (int position = 0; position < wordLength; position++) {
+                int letter = WordCodec.letterAt(code, position);
+                for (int count = 1; count <= letterCounts[letter]; count++) {
+                    letterMinCount[letter * wordLength + count - 1][word] |= bit;
+                }
+                letterCounts[letter] = 0;
+            }
+        }
+    }
+
+    public CandidateSet newCandidateSet() {
+        return new CandidateSet(this);
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    public long footprintBytes() {
+        return (long) (positionLetter.length + letterMinCount.length + 1) * wordsPerSet * Long.BYTES;
+    }
+
+    int getWordsPerSet() {
+        return wordsPerSet;
+    }
+
+    long[] allWords() {
+        return allWords;
+    }
+
+    long[] wordsWithLetterAt(int position, int letter) {
+        return positionLetter[position * 26 + letter];
+    }
+
+    // Words containing letter at least count times, or null when count exceeds the word length
+    long[] wordsWithAtLeast(int letter, int count) {
+        return count <= wordLength ? letterMinCount[letter * wordLength + count - 1] : null;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.demo;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// The dictionary indices still consistent with every guess applied so far, as a bitset over a
+// CandidateIndex. Each guess narrows the set in O(word length x dictionary / 64) word operations.
+public class CandidateSet {
+    private final CandidateIndex index;
+    private final long[] candidates;
+    private int count;
+
+    CandidateSet(CandidateIndex index) {
+        this.index = index;
+        this.candidates = new long[index.getWordsPerSet()];
+        reset();
+    }
+
+    public void reset() {
+        System.arraycopy(index.allWords(), 0, candidates, 0, candidates.length);
+        count = index.getWordCount();
+    }
+
+    // Keeps only the words that would have produced pattern for the packed guess
+    public void apply(long guessCode, int pattern) {
+        int wordLength = index.getWordLength();
+        for (int position = 0; position < wordLength; position++) {
+            int letter = WordCodec.letterAt(guessCode, position);
+            int state = GuessScorer.stateAt(pattern, position);
+            if (state == GuessScorer.CORRECT) {
+                and(index.wordsWithLetterAt(position, letter));
+            } else {
+                andNot(index.wordsWithLetterAt(position, letter));
+            }
+        }
+
+        // Per distinct letter: k green/yellow marks mean at least k copies; a gray mark as well means exactly k
+        int seen = 0;
+        for (int position = 0; position < wordLength; position++) {
+            int letter = WordCodec.letterAt(guessCode, position);
+            if ((seen & (1 << letter)) != 0) {
+                continue;
+            }
+            seen |= 1 << letter;
+
+            int marked = 0;
+            boolean gray = false;
+            for (int other = position; other < wordLength; other++) {
+                if (WordCodec.letterAt(guessCode, other) == letter) {
+                    if (GuessScorer.stateAt(pattern, other) == GuessScorer.ABSENT) {
+                        gray = true;
+                    } else {
+                        marked++;
+                    }
+                }
+            }
+            if (marked > 0) {
+                and(index.wordsWithAtLeast(letter, marked));
+            }
+            if (gray) {
+                long[] tooMany = index.wordsWithAtLeast(letter, marked + 1);
+                if (tooMany != null) {
+                    andNot(tooMany);
+                }
+            }
+        }
+
+        int total = 0;
+        for (long word : candidates) {
+            total += Long.bitCount(word);
+        }
+        count = total;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public boolean contains(int wordIndex) {
+        return (candidates[wordIndex >>> 6] & (1L << wordIndex)) != 0;
+    }
+
+    // Next candidate index at or after from, or -1 when there are no more
+    public int nextCandidate(int from) {
+        int word = from >>> 6;
+        if (word >= candidates.length) {
+            return -1;
+        }
+        long bits = candidates[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == candidates.length) {
+                return -1;
+            }
+            bits = candidates[word];
+        }
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int next = nextCandidate(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                int current = next;
+                next = nextCandidate(current + 1);
+                return current;
+            }
+        };
+    }
+
+    public int[] toArray() {
+        int[] result = new int[count];
+        int position = 0;
+        for (int candidate = nextCandidate(0); candidate >= 0; candidate = nextCandidate(candidate + 1)) {
+            result[position++] = candidate;
+        }
+        return result;
+    }
+
+    private void and(long[] words) {
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] &= words[i];
+        }
+    }
+
+    private void andNot(long[] words) {
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] &= ~words[i];
+        }
+    }
+}
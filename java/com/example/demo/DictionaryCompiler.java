@@ -0,0 +1,120 @@
+package com.example.demo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// Build-time tool that turns a text word list into the binary format read by MappedWordDictionary.
+// Lines are read as WordListEntry describes, the same way WordValidator reads the bundled lists.
+//
+// Usage: java com.example.demo.DictionaryCompiler <word-list.txt> <output.dict> [word-length]
+public class DictionaryCompiler {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: DictionaryCompiler <word-list.txt> <output.dict> [word-length]");
+            System.exit(1);
+        }
+        int wordLength = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        int count = compile(Path.of(args[0]), Path.of(args[1]), wordLength);
+        System.out.println("Compiled " + count + " words into " + args[1]);
+    }
+
+    public static int compile(Path source, Path target, int wordLength) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            return compile(reader, target, wordLength);
+        }
+    }
+
+    public static int compile(BufferedReader reader, Path target, int wordLength) throws IOException {
+        if (wordLength < 1 || wordLength > WordCodec.MAX_LETTERS) {
+            throw new IllegalArgumentException("Word length must be between 1 and " + WordCodec.MAX_LETTERS);
+        }
+
+        // Each entry is (code << 32 | frequency) so a single sort orders codes and keeps frequencies aligned
+        long[] entries = new long[4096];
+        PackedWordSet seen = new PackedWordSet(entries.length);
+        int count = 0;
+        boolean hasFrequencies = false;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            WordListEntry entry;
+            try {
+                entry = WordListEntry.parse(line, lineNumber);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+            if (entry == null) {
+                continue;
+            }
+
+            int code = WordCodec.encode(entry.word());
+            if (entry.word().length() != wordLength || code < 0) {
+                System.err.println("Skipping line " + lineNumber + ": not a " + wordLength + "-letter word");
+                continue;
+            }
+            if (!seen.add(code)) {
+                continue;  // the first line of a word wins, as in WordValidator
+            }
+            hasFrequencies |= entry.hasFrequency();
+
+            if (count == entries.length) {
+                entries = Arrays.copyOf(entries, count * 2);
+            }
+            entries[count++] = ((long) code << 32) | entry.frequency();
+        }
+
+        Arrays.sort(entries, 0, count);
+        write(target, wordLength, entries, count, hasFrequencies);
+        return count;
+    }
+
+    private static void write(Path target, int wordLength, long[] entries, int count, boolean hasFrequencies)
+            throws IOException {
+        int codesOffset = MappedWordDictionary.HEADER_SIZE;
+        int frequenciesOffset = hasFrequencies ? codesOffset + count * Integer.BYTES : 0;
+        int size = codesOffset + count * Integer.BYTES * (hasFrequencies ? 2 : 1);
+
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+        buffer.putInt(MappedWordDictionary.MAGIC);
+        buffer.putShort(MappedWordDictionary.VERSION);
+        buffer.put((byte) wordLength);
+        buffer.put((byte) (hasFrequencies ? MappedWordDictionary.FLAG_FREQUENCIES : 0));
+        buffer.putInt(count);
+        buffer.putInt(codesOffset);
+        buffer.putInt(frequenciesOffset);
+        buffer.putInt(0);  // reserved
+
+        for (int i = 0; i < count; i++) {
+            buffer.putInt((int) (entries[i] >>> 32));
+        }
+        if (hasFrequencies) {
+            for (int i = 0; i < count; i++) {
+                buffer.putInt((int) entries[i]);
+            }
+        }
+        buffer.flip();
+
+        // Write next to the target and move it into place so readers never map a half-written file
+        Path absoluteTarget = target.toAbsolutePath();
+        Path temp = absoluteTarget.resolveSibling(absoluteTarget.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, absoluteTarget, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
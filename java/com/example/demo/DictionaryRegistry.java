@@ -0,0 +1,72 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntFunction;
+
+// One WordValidator per word length, each loaded the first time a game of that length needs it
+// and kept from then on, so only the lengths actually played cost memory or load time. The
+// lengths on offer are those with a bundled "<n>-letter-words-list.txt" or a compiled dictionary
+// (see WordValidator.compiledDictionaryPath).
+public class DictionaryRegistry {
+    public static final int MIN_LENGTH = 4;
+    public static final int MAX_LENGTH = 8;
+    public static final int DEFAULT_LENGTH = WordValidator.DEFAULT_WORD_LENGTH;
+
+    private final ConcurrentMap<Integer, WordValidator> validators = new ConcurrentHashMap<>();
+    private final IntFunction<WordValidator> loader;
+    private final int defaultLength;
+
+    public DictionaryRegistry() {
+        this(WordValidator::new, DEFAULT_LENGTH);
+    }
+
+    // Starts with an already loaded dictionary, which also becomes the default length
+    public DictionaryRegistry(WordValidator preloaded) {
+        this(WordValidator::new, preloaded.getWordLength());
+        validators.put(preloaded.getWordLength(), preloaded);
+    }
+
+    public DictionaryRegistry(IntFunction<WordValidator> loader, int defaultLength) {
+        this.loader = loader;
+        this.defaultLength = defaultLength;
+    }
+
+    // Loads the dictionary on first use; callers asking for the same length meanwhile wait for it
+    public WordValidator get(int wordLength) {
+        WordValidator validator = validators.get(wordLength);
+        if (validator != null) {
+            return validator;
+        }
+        if (wordLength != defaultLength && (wordLength < MIN_LENGTH || wordLength > MAX_LENGTH)) {
+            throw new IllegalArgumentException("Word length must be between " + MIN_LENGTH + " and " + MAX_LENGTH
+                    + ": " + wordLength);
+        }
+        return validators.computeIfAbsent(wordLength, loader::apply);
+    }
+
+    public WordValidator getDefault() {
+        return get(defaultLength);
+    }
+
+    public int getDefaultLength() {
+        return defaultLength;
+    }
+
+    public boolean isLoaded(int wordLength) {
+        return validators.containsKey(wordLength);
+    }
+
+    // Lengths that have a word list, whether loaded yet or not
+    public List<Integer> getAvailableLengths() {
+        List<Integer> lengths = new ArrayList<>();
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            if (isLoaded(length) || WordValidator.hasWordList(length)) {
+                lengths.add(length);
+            }
+        }
+        return lengths;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+// Which words a single-player secret is drawn from, by how common they are. Words are ranked by
+// frequency and each tier takes a slice of the ranking with its own weighting; WordValidator builds
+// one AliasTable per tier when its dictionary has frequencies.
+public enum DifficultyTier {
+    EASY("Easy", 0.0, 0.3) {  // the most common 30%, the commoner the likelier
+        @Override
+        double weight(int frequency) {
+            return frequency;
+        }
+    },
+    NORMAL("Normal", 0.0, 1.0) {  // every word, common ones favoured without drowning out the rest
+        @Override
+        double weight(int frequency) {
+            return Math.sqrt(frequency);
+        }
+    },
+    HARD("Hard", 0.5, 1.0) {  // the rarer half, all equally likely
+        @Override
+        double weight(int frequency) {
+            return 1;
+        }
+    };
+
+    private final String displayName;
+    private final double fromRank;
+    private final double toRank;
+
+    DifficultyTier(String displayName, double fromRank, double toRank) {
+        this.displayName = displayName;
+        this.fromRank = fromRank;
+        this.toRank = toRank;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    abstract double weight(int frequency);
+
+    // byFrequency lists the word indices from the most to the least frequent
+    AliasTable buildTable(int[] byFrequency, IntUnaryOperator frequencyOf) {
+        int from = (int) (byFrequency.length * fromRank);
+        int to = Math.max((int) Math.ceil(byFrequency.length * toRank), from + 1);
+        int[] indices = Arrays.copyOfRange(byFrequency, from, to);
+        double[] weights = new double[indices.length];
+        double total = 0;
+        for (int i = 0; i < indices.length; i++) {
+            weights[i] = weight(frequencyOf.applyAsInt(indices[i]));
+            total += weights[i];
+        }
+        return total > 0 ? new AliasTable(indices, weights) : AliasTable.uniform(indices);
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Precomputed GuessScorer patterns for every (guess, answer) pair of a dictionary, indexed by the
+// word indices of WordValidator. The table lives off-heap, one byte per pair (3,102 words is ~9.6 MB),
+// and can be saved to a file that later runs memory-map instead of rebuilding. Setting FILE_PROPERTY
+// gives the entropy bot of SimulationRunner a matrix kept in that file.
+//
+// File layout (big-endian): magic "WFBM", version, word length, word count, dictionary hash, patterns
+public class FeedbackMatrix {
+    public static final String FILE_PROPERTY = "wordle.feedback.file";
+    private static final int MAGIC = 0x5746424D;  // "WFBM"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int ROWS_PER_TASK = 16;
+
+    private final ByteBuffer patterns;
+    private final int wordCount;
+
+    private FeedbackMatrix(ByteBuffer patterns, int wordCount) {
+        this.patterns = patterns;
+        this.wordCount = wordCount;
+    }
+
+    public static FeedbackMatrix build(WordValidator wordValidator) {
+        return build(wordValidator, ForkJoinPool.commonPool());
+    }
+
+    public static FeedbackMatrix build(WordValidator wordValidator, ForkJoinPool pool) {
+        int wordLength = wordValidator.getWordLength();
+        if (GuessScorer.patternCount(wordLength) > 256) {
+            throw new IllegalArgumentException("Patterns for " + wordLength + "-letter words do not fit in a byte");
+        }
+        int wordCount = wordValidator.getWordCount();
+        if ((long) wordCount * wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Dictionary too large for a feedback matrix: " + wordCount);
+        }
+
+        long[] codes = new long[wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            codes[i] = wordValidator.getWordCode(i);
+        }
+        ByteBuffer patterns = ByteBuffer.allocateDirect(wordCount * wordCount);
+        pool.invoke(new BuildRowsTask(patterns, codes, wordLength, 0, wordCount));
+        return new FeedbackMatrix(patterns, wordCount);
+    }
+
+    // Maps a matrix saved with save(); returns null if the file does not match this dictionary
+    public static FeedbackMatrix load(Path path, WordValidator wordValidator) throws IOException {
+        ByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                return null;
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        mapped.order(ByteOrder.BIG_ENDIAN);
+
+        int wordCount = wordValidator.getWordCount();
+        if (mapped.getInt(0) != MAGIC
+                || mapped.getShort(4) != VERSION
+                || mapped.get(6) != wordValidator.getWordLength()
+                || mapped.getInt(8) != wordCount
+                || mapped.getInt(12) != dictionaryHash(wordValidator)
+                || mapped.capacity() != HEADER_SIZE + wordCount * wordCount) {
+            return null;
+        }
+        ByteBuffer patterns = mapped.position(HEADER_SIZE).slice();
+        return new FeedbackMatrix(patterns, wordCount);
+    }
+
+    // Loads the matrix from path when it is present and current, otherwise builds and saves it
+    public static FeedbackMatrix loadOrBuild(Path path, WordValidator wordValidator) throws IOException {
+        if (path.toFile().isFile()) {
+            FeedbackMatrix matrix = load(path, wordValidator);
+            if (matrix != null) {
+                return matrix;
+            }
+        }
+        FeedbackMatrix matrix = build(wordValidator);
+        matrix.save(path, wordValidator);
+        return matrix;
+    }
+
+    // The matrix kept at FILE_PROPERTY, built and saved there if missing or stale; null when the
+    // property is unset or the matrix cannot be had, and callers score patterns directly
+    public static FeedbackMatrix configured(WordValidator wordValidator) {
+        String configured = System.getProperty(FILE_PROPERTY);
+        if (configured == null || configured.isBlank()) {
+            return null;
+        }
+        try {
+            return loadOrBuild(Path.of(configured), wordValidator);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Feedback matrix not used: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Written to a temporary file and moved into place, so a crash never leaves a partial matrix to map
+    public void save(Path path, WordValidator wordValidator) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.put((byte) wordValidator.getWordLength());
+        header.put((byte) 0);
+        header.putInt(wordCount);
+        header.putInt(dictionaryHash(wordValidator));
+        header.flip();
+
+        ByteBuffer body = patterns.duplicate();
+        body.clear();
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public int pattern(int guessIndex, int answerIndex) {
+        return patterns.get(guessIndex * wordCount + answerIndex) & 0xFF;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    // Identifies the word order the matrix was built from, so a stale file is never reused
+    private static int dictionaryHash(WordValidator wordValidator) {
+        int hash = 1;
+        for (int i = 0; i < wordValidator.getWordCount(); i++) {
+            hash = 31 * hash + Long.hashCode(wordValidator.getWordCode(i));
+        }
+        return hash;
+    }
+
+    private static class BuildRowsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ByteBuffer patterns;
+        private final long[] codes;
+        private final int wordLength;
+        private final int fromRow;
+        private final int toRow;
+
+        BuildRowsTask(ByteBuffer patterns, long[] codes, int wordLength, int fromRow, int toRow) {
+            this.patterns = patterns;
+            this.codes = codes;
+            this.wordLength = wordLength;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow > ROWS_PER_TASK) {
+                int middle = (fromRow + toRow) >>> 1;
+                invokeAll(new BuildRowsTask(patterns, codes, wordLength, fromRow, middle),
+                        new BuildRowsTask(patterns, codes, wordLength, middle, toRow));
+                return;
+            }
+            int wordCount = codes.length;
+            for (int guess = fromRow; guess < toRow; guess++) {
+                long guessCode = codes[guess];
+                int offset = guess * wordCount;
+                for (int answer = 0; answer < wordCount; answer++) {
+                    patterns.put(offset + answer, (byte) GuessScorer.score(guessCode, codes[answer], wordLength));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.demo;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Wordle rules with no JavaFX dependency: validation, scoring, win/loss and score computation.
+// An engine holds no per-game state, so one engine can drive any number of GameStates of any word
+// length its DictionaryRegistry offers; events go to the registered GameListeners (none are needed
+// for headless use).
+public class GameEngine {
+    public static final int MAX_ATTEMPTS = 6;
+    private static final int[] SCORES = {100, 90, 80, 70, 60, 50};
+
+    private final DictionaryRegistry dictionaries;
+    private final List<GameListener> listeners = new CopyOnWriteArrayList<>();
+
+    public GameEngine(WordValidator wordValidator) {
+        this(new DictionaryRegistry(wordValidator));
+    }
+
+    public GameEngine(DictionaryRegistry dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Dictionary of the default word length
+    public WordValidator getWordValidator() {
+        return dictionaries.getDefault();
+    }
+
+    public DictionaryRegistry getDictionaries() {
+        return dictionaries;
+    }
+
+    // Score for a game solved on the given attempt (1-based)
+    public static int scoreFor(int attempts) {
+        return attempts >= 1 && attempts <= SCORES.length ? SCORES[attempts - 1] : 0;
+    }
+
+    // The secret's length picks the dictionary, loading it on first use
+    public GameState newGame(String secretWord) {
+        return newGame(secretWord, false);
+    }
+
+    // In hard mode every guess must reuse the letters revealed by the earlier ones
+    public GameState newGame(String secretWord, boolean hardMode) {
+        WordValidator wordValidator = dictionaries.get(secretWord.length());
+        return new GameState(secretWord, wordValidator, wordValidator.getCandidateIndex().newCandidateSet(), hardMode);
+    }
+
+    public GameState newRandomGame() {
+        return newRandomGame(dictionaries.getDefaultLength());
+    }
+
+    public GameState newRandomGame(int wordLength) {
+        return newGame(dictionaries.get(wordLength).getRandomWord());
+    }
+
+    public void typeLetter(GameState state, char letter) {
+        if (WordCodec.letterIndex(letter) < 0) {
+            return;
+        }
+        letter = Character.toUpperCase(letter);
+        if (!state.isCompleted() && state.typeLetter(letter)) {
+            int col = state.getTypedLength() - 1;
+            for (GameListener listener : listeners) {
+                listener.onLetterChanged(state, state.getCurrentRow(), col, String.valueOf(letter));
+            }
+        }
+    }
+
+    public void deleteLetter(GameState state) {
+        if (!state.isCompleted() && state.deleteLetter()) {
+            int col = state.getTypedLength();
+            for (GameListener listener : listeners) {
+                listener.onLetterChanged(state, state.getCurrentRow(), col, "");
+            }
+        }
+    }
+
+    // Submits the letters typed so far; incomplete rows are ignored without an event
+    public GuessResult submitTyped(GameState state) {
+        if (!state.isCompleted() && state.getTypedLength() < state.getWordLength()) {
+            return new GuessResult(GuessResult.Outcome.INCOMPLETE, state.getTypedWord(), 0, state.getAttempts(), 0,
+                    "Not enough letters");
+        }
+        GuessResult result = submitGuess(state, state.getTypedWord());
+        if (result.outcome() == GuessResult.Outcome.INVALID_WORD) {
+            clearTyped(state);
+        } else if (result.isScored()) {
+            state.clearTyped();
+        }
+        return result;
+    }
+
+    public GuessResult submitGuess(GameState state, CharSequence guess) {
+        if (state.isCompleted()) {
+            return new GuessResult(GuessResult.Outcome.GAME_OVER, guess.toString(), 0, state.getAttempts(),
+                    state.getScore(), "The game is already over");
+        }
+        if (guess.length() != state.getWordLength()) {
+            return reject(state, GuessResult.Outcome.INCOMPLETE, guess.toString(), "Not enough letters");
+        }
+        return submitGuess(state, WordCodec.encodeLong(guess), guess);
+    }
+
+    // Submits a guess already packed with WordCodec, as bots hold them. The code is taken as a word of
+    // the game's length: a code that cannot be one is rejected, but a shorter word's code is the same
+    // as that word padded with A's, so text must go through submitGuess(state, CharSequence)
+    public GuessResult submitGuess(GameState state, long guessCode) {
+        return submitGuess(state, guessCode, null);
+    }
+
+    private GuessResult submitGuess(GameState state, long guessCode, CharSequence guessText) {
+        int wordLength = state.getWordLength();
+        if (state.isCompleted()) {
+            return new GuessResult(GuessResult.Outcome.GAME_OVER, WordCodec.decode(guessCode, wordLength), 0,
+                    state.getAttempts(), state.getScore(), "The game is already over");
+        }
+        if (!state.getWordValidator().isValidWord(guessCode)) {
+            String guess = guessText != null ? guessText.toString() : WordCodec.decode(guessCode, wordLength);
+            return reject(state, GuessResult.Outcome.INVALID_WORD, guess,
+                    "Invalid word! Please enter a valid " + wordLength + "-letter word from the dictionary.");
+        }
+        HardModeConstraints hardMode = state.getHardModeConstraints();
+        String violation = hardMode != null ? hardMode.violation(guessCode) : null;
+        if (violation != null) {
+            String guess = guessText != null ? guessText.toString() : WordCodec.decode(guessCode, wordLength);
+            return reject(state, GuessResult.Outcome.HARD_MODE_VIOLATION, guess, "Hard mode: " + violation);
+        }
+
+        int pattern = GuessScorer.score(guessCode, state.getSecretCode(), wordLength);
+        int attempt = state.recordGuess(guessCode, pattern);
+
+        GuessResult.Outcome outcome;
+        if (GuessScorer.isSolved(pattern, wordLength)) {
+            state.finish(GameState.Status.WON, scoreFor(attempt));
+            outcome = GuessResult.Outcome.WON;
+        } else if (attempt >= MAX_ATTEMPTS) {
+            state.finish(GameState.Status.LOST, 0);
+            outcome = GuessResult.Outcome.LOST;
+        } else {
+            outcome = GuessResult.Outcome.ACCEPTED;
+        }
+        GuessResult result = new GuessResult(outcome, WordCodec.decode(guessCode, wordLength), pattern, attempt,
+                state.getScore(), null);
+
+        for (GameListener listener : listeners) {
+            listener.onGuessScored(state, result);
+        }
+        if (result.isGameOver()) {
+            for (GameListener listener : listeners) {
+                listener.onGameOver(state, result);
+            }
+        }
+        return result;
+    }
+
+    private GuessResult reject(GameState state, GuessResult.Outcome outcome, String guess, String message) {
+        GuessResult result = new GuessResult(outcome, guess, 0, state.getAttempts(), 0, message);
+        for (GameListener listener : listeners) {
+            listener.onGuessRejected(state, result);
+        }
+        return result;
+    }
+
+    private void clearTyped(GameState state) {
+        int typedLength = state.getTypedLength();
+        state.clearTyped();
+        for (GameListener listener : listeners) {
+            for (int col = 0; col < typedLength; col++) {
+                listener.onLetterChanged(state, state.getCurrentRow(), col, "");
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo;
+
+// Receives GameEngine events; every method is optional
+public interface GameListener {
+
+    // letter is empty when the cell was cleared
+    default void onLetterChanged(GameState state, int row, int col, String letter) {
+    }
+
+    default void onGuessScored(GameState state, GuessResult result) {
+    }
+
+    default void onGuessRejected(GameState state, GuessResult result) {
+    }
+
+    default void onGameOver(GameState state, GuessResult result) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+// The game's meters in the default MetricsRegistry: guesses by outcome and their processing latency,
+// games started and finished per mode, dictionary size and memory. WordleGame, WordleServer,
+// WordValidator and StatisticsManager report here; expose() publishes the registry over JMX and,
+// when MetricsHttpServer.PORT_PROPERTY is set, over HTTP.
+public final class GameMetrics {
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.getDefault();
+
+    private static final MetricsRegistry.Timer GUESS_DURATION = REGISTRY.timer("wordle_guess_duration_seconds",
+            "Time to validate, score and render one guess");
+    private static final Map<GuessResult.Outcome, MetricsRegistry.Counter> GUESSES = new EnumMap<>(GuessResult.Outcome.class);
+    private static final Map<GameOutcome.Mode, MetricsRegistry.Counter> STARTED = new EnumMap<>(GameOutcome.Mode.class);
+    private static final Map<GameOutcome.Mode, MetricsRegistry.Counter> WON = new EnumMap<>(GameOutcome.Mode.class);
+    private static final Map<GameOutcome.Mode, MetricsRegistry.Counter> LOST = new EnumMap<>(GameOutcome.Mode.class);
+
+    private static volatile MetricsHttpServer httpServer;
+
+    static {
+        for (GuessResult.Outcome outcome : GuessResult.Outcome.values()) {
+            GUESSES.put(outcome, REGISTRY.counter("wordle_guesses_total", "Guesses submitted",
+                    "outcome", label(outcome.name())));
+        }
+        for (GameOutcome.Mode mode : GameOutcome.Mode.values()) {
+            String name = label(mode.name());
+            STARTED.put(mode, REGISTRY.counter("wordle_games_started_total", "Games started", "mode", name));
+            WON.put(mode, REGISTRY.counter("wordle_games_finished_total", "Games finished",
+                    "mode", name, "result", "won"));
+            LOST.put(mode, REGISTRY.counter("wordle_games_finished_total", "Games finished",
+                    "mode", name, "result", "lost"));
+        }
+        REGISTRY.gauge("wordle_invalid_guess_ratio", "Share of complete guesses rejected as not a word",
+                GameMetrics::invalidGuessRatio);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        REGISTRY.gauge("wordle_jvm_heap_used_bytes", "Heap in use",
+                () -> memory.getHeapMemoryUsage().getUsed());
+    }
+
+    private GameMetrics() {
+    }
+
+    public static MetricsRegistry getRegistry() {
+        return REGISTRY;
+    }
+
+    public static void guess(GuessResult result, long nanos) {
+        GUESSES.get(result.outcome()).increment();
+        GUESS_DURATION.record(nanos);
+    }
+
+    public static void outcome(GameOutcome outcome) {
+        if (outcome.type() == GameOutcome.Type.STARTED) {
+            STARTED.get(outcome.mode()).increment();
+        } else {
+            (outcome.won() ? WON : LOST).get(outcome.mode()).increment();
+        }
+    }
+
+    // One gauge pair per word length, so lazily loaded dictionaries do not replace each other
+    public static void dictionaryLoaded(WordValidator validator) {
+        String length = String.valueOf(validator.getWordLength());
+        REGISTRY.gauge("wordle_dictionary_words", "Words in the loaded dictionary", validator::getWordCount,
+                "length", length);
+        REGISTRY.gauge("wordle_dictionary_bytes", "Memory held by the word list and candidate index",
+                validator::getFootprintBytes, "length", length);
+    }
+
+    public static double invalidGuessRatio() {
+        long invalid = GUESSES.get(GuessResult.Outcome.INVALID_WORD).count();
+        long scored = GUESSES.get(GuessResult.Outcome.ACCEPTED).count()
+                + GUESSES.get(GuessResult.Outcome.WON).count()
+                + GUESSES.get(GuessResult.Outcome.LOST).count();
+        return invalid + scored == 0 ? 0 : (double) invalid / (invalid + scored);
+    }
+
+    // Registers the MBean and starts the HTTP endpoint if configured; failures are reported, not thrown
+    public static void expose() {
+        try {
+            MetricsMBean.register(REGISTRY);
+        } catch (Exception e) {
+            System.err.println("Metrics MBean not registered: " + e.getMessage());
+        }
+        try {
+            httpServer = MetricsHttpServer.startConfigured(REGISTRY);
+        } catch (Exception e) {
+            System.err.println("Metrics endpoint not started: " + e.getMessage());
+        }
+    }
+
+    public static void shutdown() {
+        MetricsHttpServer server = httpServer;
+        if (server != null) {
+            server.stop();
+            httpServer = null;
+        }
+    }
+
+    private static String label(String enumName) {
+        return enumName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.demo;
+
+// One statistics event: a game starting or finishing. StatisticsManager applies these and
+// StatisticsLog persists them. Player is 0 in single-player mode and for multiplayer starts,
+// otherwise the guessing player (1 or 2).
+public record GameOutcome(Type type, Mode mode, int player, boolean won, int attempts, int score,
+                          long timestampMillis, long solveNanos) {
+
+    public enum Type { STARTED, FINISHED }
+
+    public enum Mode { SINGLE_PLAYER, MULTI_PLAYER }
+
+    public static GameOutcome started(Mode mode) {
+        return new GameOutcome(Type.STARTED, mode, 0, false, 0, 0, System.currentTimeMillis(), 0);
+    }
+
+    public static GameOutcome finished(Mode mode, int player, boolean won, int attempts, int score, long solveNanos) {
+        return new GameOutcome(Type.FINISHED, mode, player, won, attempts, score, System.currentTimeMillis(), solveNanos);
+    }
+}
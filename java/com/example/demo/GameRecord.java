@@ -0,0 +1,39 @@
+package com.example.demo;
+
+// One finished game as GameRecordWriter stores it: the secret, every scored guess with its
+// GuessScorer pattern, and the milliseconds each guess took since the previous one (or since the
+// game started, for the first). Player follows GameOutcome: 0 in single-player mode, otherwise
+// the guessing player.
+public record GameRecord(GameOutcome.Mode mode, int player, boolean won, int wordLength, long secretCode,
+                         long startMillis, long[] guessCodes, int[] patterns, int[] deltaMillis) {
+
+    public static GameRecord of(GameState state, GameOutcome.Mode mode, int player) {
+        int guesses = state.getAttempts();
+        int[] deltaMillis = new int[guesses];
+        long previousNanos = 0;
+        for (int i = 0; i < guesses; i++) {
+            long elapsedNanos = state.getGuessElapsedNanos(i);
+            deltaMillis[i] = (int) Math.min((elapsedNanos - previousNanos) / 1_000_000, GameRecordWriter.MAX_DELTA_MILLIS);
+            previousNanos = elapsedNanos;
+        }
+        return new GameRecord(mode, player, state.isWon(), state.getWordLength(), state.getSecretCode(),
+                state.getStartMillis(), state.getGuessCodes(), state.getGuessPatterns(), deltaMillis);
+    }
+
+    public int guessCount() {
+        return guessCodes.length;
+    }
+
+    public String secretWord() {
+        return WordCodec.decode(secretCode, wordLength);
+    }
+
+    public String guess(int index) {
+        return WordCodec.decode(guessCodes[index], wordLength);
+    }
+
+    // Score as GameEngine awarded it
+    public int score() {
+        return won ? GameEngine.scoreFor(guessCount()) : 0;
+    }
+}
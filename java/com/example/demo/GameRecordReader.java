@@ -0,0 +1,269 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+// Streams the games of a GameRecordWriter file through a 1 MB buffer. next() moves to the following
+// game and the accessors read it in place, so scanning allocates nothing per game and a history of
+// any size is read at disk speed; toRecord() copies the current game out when it is needed later.
+// Reading stops at the end of the file, at a torn final record or at the first corrupt one.
+//
+// Run for a summary of one or more files:
+//   java com.example.demo.GameRecordReader games.wgr ...
+public class GameRecordReader implements AutoCloseable {
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(GameRecordWriter.BUFFER_SIZE).order(ByteOrder.BIG_ENDIAN);
+    private final CRC32C checksum = new CRC32C();
+    private long bufferOffset;  // file offset of buffer index 0
+    private int recordStart = -1;  // buffer index of the current game, -1 when there is none
+    private int recordSize;
+    private long validEnd = GameRecordWriter.FILE_HEADER_SIZE;
+    private long gamesRead;
+    private boolean stopped;
+
+    private GameRecordReader(Path path, FileChannel channel) {
+        this.path = path;
+        this.channel = channel;
+        buffer.limit(0);
+    }
+
+    public static GameRecordReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        GameRecordReader reader = new GameRecordReader(path, channel);
+        try {
+            if (!reader.fill(GameRecordWriter.FILE_HEADER_SIZE)
+                    || reader.buffer.getInt(0) != GameRecordWriter.MAGIC
+                    || reader.buffer.getShort(4) != GameRecordWriter.VERSION) {
+                throw new IOException("Not a game history file: " + path);
+            }
+            reader.buffer.position(GameRecordWriter.FILE_HEADER_SIZE);
+            return reader;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // The last intact game of a file, or null when it has none
+    public static GameRecord readLast(Path path) throws IOException {
+        try (GameRecordReader reader = open(path)) {
+            long lastStart = -1;
+            while (reader.next()) {
+                lastStart = reader.validEnd - reader.recordSize;
+            }
+            if (lastStart < 0) {
+                return null;
+            }
+            reader.seek(lastStart);
+            return reader.next() ? reader.toRecord() : null;
+        }
+    }
+
+    // Continues reading at the start of a game found earlier
+    private void seek(long offset) throws IOException {
+        channel.position(offset);
+        bufferOffset = offset;
+        buffer.clear().limit(0);
+        recordStart = -1;
+        stopped = false;
+    }
+
+    public boolean next() throws IOException {
+        if (recordStart >= 0) {
+            buffer.position(recordStart + recordSize);
+            recordStart = -1;
+        }
+        if (stopped || !fill(GameRecordWriter.GAME_HEADER_SIZE)) {
+            return false;
+        }
+        int start = buffer.position();
+        int flags = buffer.get(start) & 0xFF;
+        int wordLength = buffer.get(start + 1);
+        int guesses = buffer.get(start + 2) & 0xFF;
+        if (flags > 0x0F || wordLength < 1 || wordLength > GuessScorer.MAX_LENGTH) {
+            return stop();
+        }
+        int size = GameRecordWriter.recordSize(wordLength, guesses);
+        if (!fill(size)) {
+            return false;  // torn final record
+        }
+        start = buffer.position();
+        int checksumOffset = start + size - GameRecordWriter.CHECKSUM_SIZE;
+        checksum.reset();
+        checksum.update(buffer.duplicate().limit(checksumOffset).position(start));
+        if ((int) checksum.getValue() != buffer.getInt(checksumOffset)) {
+            return stop();
+        }
+        recordStart = start;
+        recordSize = size;
+        validEnd = bufferOffset + start + size;
+        gamesRead++;
+        return true;
+    }
+
+    private boolean stop() {
+        System.err.println("Stopping at corrupt game record at byte " + (bufferOffset + buffer.position()) + " of " + path);
+        stopped = true;
+        return false;
+    }
+
+    // Makes at least needed bytes available from the buffer position; false at the end of the file
+    private boolean fill(int needed) throws IOException {
+        if (buffer.remaining() >= needed) {
+            return true;
+        }
+        bufferOffset += buffer.position();
+        buffer.compact();
+        while (buffer.position() < needed && channel.read(buffer) >= 0) {
+            // Keep reading until the record fits or the file ends
+        }
+        buffer.flip();
+        return buffer.remaining() >= needed;
+    }
+
+    // File offset just past the last intact game read so far
+    public long validEnd() {
+        return validEnd;
+    }
+
+    public long getGamesRead() {
+        return gamesRead;
+    }
+
+    public GameOutcome.Mode mode() {
+        return (flags() & 1 << 2) != 0 ? GameOutcome.Mode.MULTI_PLAYER : GameOutcome.Mode.SINGLE_PLAYER;
+    }
+
+    public int player() {
+        return flags() & 3;
+    }
+
+    public boolean won() {
+        return (flags() & 1 << 3) != 0;
+    }
+
+    public int wordLength() {
+        return buffer.get(current() + 1);
+    }
+
+    public int guessCount() {
+        return buffer.get(current() + 2) & 0xFF;
+    }
+
+    public long secretCode() {
+        int start = current();
+        return (long) (buffer.get(start + 3) & 0xFF) << 32 | buffer.getInt(start + 4) & 0xFFFFFFFFL;
+    }
+
+    public long startMillis() {
+        return buffer.getLong(current() + 8);
+    }
+
+    public long guessCode(int index) {
+        int codeBits = wide() ? GameRecordWriter.WIDE_CODE_BITS : GameRecordWriter.CODE_BITS;
+        return guess(index) & ((1L << codeBits) - 1);
+    }
+
+    public int pattern(int index) {
+        return wide() ? (int) (guess(index) >>> GameRecordWriter.WIDE_CODE_BITS)
+                : (int) (guess(index) >>> GameRecordWriter.CODE_BITS) & ((1 << GameRecordWriter.PATTERN_BITS) - 1);
+    }
+
+    public int deltaMillis(int index) {
+        if (wide()) {
+            return buffer.getInt(guessOffset(index) + Long.BYTES);
+        }
+        return (int) (guess(index) >>> (GameRecordWriter.CODE_BITS + GameRecordWriter.PATTERN_BITS));
+    }
+
+    public GameRecord toRecord() {
+        int guesses = guessCount();
+        long[] codes = new long[guesses];
+        int[] patterns = new int[guesses];
+        int[] deltas = new int[guesses];
+        for (int i = 0; i < guesses; i++) {
+            codes[i] = guessCode(i);
+            patterns[i] = pattern(i);
+            deltas[i] = deltaMillis(i);
+        }
+        return new GameRecord(mode(), player(), won(), wordLength(), secretCode(), startMillis(), codes, patterns, deltas);
+    }
+
+    private int flags() {
+        return buffer.get(current()) & 0xFF;
+    }
+
+    private boolean wide() {
+        return GameRecordWriter.isWide(wordLength());
+    }
+
+    private long guess(int index) {
+        return buffer.getLong(guessOffset(index));
+    }
+
+    private int guessOffset(int index) {
+        if (index < 0 || index >= guessCount()) {
+            throw new IndexOutOfBoundsException("Guess " + index + " of " + guessCount());
+        }
+        int guessSize = wide() ? GameRecordWriter.WIDE_GUESS_SIZE : GameRecordWriter.GUESS_SIZE;
+        return current() + GameRecordWriter.GAME_HEADER_SIZE + index * guessSize;
+    }
+
+    private int current() {
+        if (recordStart < 0) {
+            throw new IllegalStateException("No current game; call next() first");
+        }
+        return recordStart;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: GameRecordReader <games.wgr>...");
+            return;
+        }
+        long games = 0;
+        long wins = 0;
+        long guesses = 0;
+        long bytes = 0;
+        long thinkingMillis = 0;
+        long[] solvedIn = new long[GameEngine.MAX_ATTEMPTS + 1];
+        long startNanos = System.nanoTime();
+        for (String file : args) {
+            try (GameRecordReader reader = open(Path.of(file))) {
+                while (reader.next()) {
+                    int count = reader.guessCount();
+                    games++;
+                    guesses += count;
+                    for (int i = 0; i < count; i++) {
+                        thinkingMillis += reader.deltaMillis(i);
+                    }
+                    if (reader.won()) {
+                        wins++;
+                        solvedIn[Math.min(count, GameEngine.MAX_ATTEMPTS)]++;
+                    }
+                }
+                bytes += reader.validEnd();
+            }
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("%d games, %.1f%% won, %.2f guesses per game, %.1f s per guess%n", games,
+                games == 0 ? 0 : 100.0 * wins / games, games == 0 ? 0 : (double) guesses / games,
+                guesses == 0 ? 0 : thinkingMillis / 1000.0 / guesses);
+        for (int attempts = 1; attempts <= GameEngine.MAX_ATTEMPTS; attempts++) {
+            System.out.printf("  solved in %d: %d%n", attempts, solvedIn[attempts]);
+        }
+        System.out.printf("Read %.1f MB in %.3f s (%.0f MB/s, %.0f games/s)%n", bytes / 1e6, seconds,
+                bytes / 1e6 / seconds, games / seconds);
+    }
+}
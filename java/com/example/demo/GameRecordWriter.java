@@ -0,0 +1,158 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+// Appends GameRecords to a game history file. Games are packed into a 1 MB direct buffer and reach
+// the file in one channel write when it fills, on flush() or on close(), so writing costs a few
+// dozen bytes of memory traffic per game; games still in the buffer are lost if the process dies.
+// Not thread-safe: one thread writes.
+//
+// File: header (magic "WGRC", version, reserved), then one variable-length record per game (big-endian)
+//   0 flags (bits 0-1 player, bit 2 multiplayer, bit 3 won), 1 word length, 2 guess count,
+//   3 bits 32-39 of the secret code, 4 bits 0-31 of the secret code, 8 start millis, 16 the guesses,
+//   then a CRC32C of the record
+// Guess of up to WordCodec.MAX_LETTERS letters, one long: bits 0-29 WordCodec code,
+//   bits 30-39 GuessScorer pattern, bits 40-63 millis since the previous guess
+// Longer guess (wide), a long and an int: bits 0-39 code and 40-52 pattern, then the millis
+public class GameRecordWriter implements AutoCloseable {
+    public static final String FILE_PROPERTY = "wordle.games.file";
+
+    static final int MAGIC = 0x57475243;  // "WGRC"
+    static final short VERSION = 1;
+    static final int FILE_HEADER_SIZE = 8;
+    static final int GAME_HEADER_SIZE = 16;
+    static final int GUESS_SIZE = Long.BYTES;
+    static final int WIDE_GUESS_SIZE = Long.BYTES + Integer.BYTES;
+    static final int WIDE_CODE_BITS = 40;
+    static final int CHECKSUM_SIZE = Integer.BYTES;
+    static final int BUFFER_SIZE = 1 << 20;
+    static final int CODE_BITS = 30;
+    static final int PATTERN_BITS = 10;
+    static final int MAX_DELTA_MILLIS = (1 << (64 - CODE_BITS - PATTERN_BITS)) - 1;  // about 4.6 hours
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.BIG_ENDIAN);
+    private final CRC32C checksum = new CRC32C();
+
+    private GameRecordWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    public static Path defaultPath() {
+        String configured = System.getProperty(FILE_PROPERTY);
+        return configured != null ? Path.of(configured) : Path.of(System.getProperty("user.home"), ".wordle", "games.wgr");
+    }
+
+    // Appends to an existing history, first cutting off a torn or corrupt tail, or starts a new one
+    public static GameRecordWriter open(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            GameRecordWriter writer = new GameRecordWriter(channel);
+            if (channel.size() == 0) {
+                writer.buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0);
+                writer.flush();
+            } else {
+                long end = validEnd(path);
+                if (end < channel.size()) {
+                    System.err.println("Truncating game history " + path + " at byte " + end);
+                    channel.truncate(end);
+                }
+                channel.position(end);
+            }
+            return writer;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static long validEnd(Path path) throws IOException {
+        try (GameRecordReader reader = GameRecordReader.open(path)) {
+            while (reader.next()) {
+                // Skip to the last intact game
+            }
+            return reader.validEnd();
+        }
+    }
+
+    public void write(GameRecord record) throws IOException {
+        int guesses = record.guessCount();
+        int wordLength = record.wordLength();
+        if (guesses > 255 || wordLength < 1 || wordLength > GuessScorer.MAX_LENGTH
+                || record.player() < 0 || record.player() > 3) {
+            throw new IllegalArgumentException("Game cannot be recorded: " + record);
+        }
+        int size = recordSize(wordLength, guesses);
+        if (buffer.remaining() < size) {
+            flush();
+        }
+
+        int start = buffer.position();
+        int flags = record.player()
+                | (record.mode() == GameOutcome.Mode.MULTI_PLAYER ? 1 << 2 : 0)
+                | (record.won() ? 1 << 3 : 0);
+        buffer.put((byte) flags);
+        buffer.put((byte) wordLength);
+        buffer.put((byte) guesses);
+        buffer.put((byte) (record.secretCode() >>> 32));
+        buffer.putInt((int) record.secretCode());
+        buffer.putLong(record.startMillis());
+        for (int i = 0; i < guesses; i++) {
+            if (isWide(wordLength)) {
+                buffer.putLong(record.guessCodes()[i] | (long) record.patterns()[i] << WIDE_CODE_BITS);
+                buffer.putInt(Math.min(Math.max(record.deltaMillis()[i], 0), MAX_DELTA_MILLIS));
+            } else {
+                buffer.putLong(packGuess(record.guessCodes()[i], record.patterns()[i], record.deltaMillis()[i]));
+            }
+        }
+        checksum.reset();
+        checksum.update(buffer.duplicate().limit(buffer.position()).position(start));
+        buffer.putInt((int) checksum.getValue());
+    }
+
+    static boolean isWide(int wordLength) {
+        return wordLength > WordCodec.MAX_LETTERS;
+    }
+
+    static int recordSize(int wordLength, int guesses) {
+        return GAME_HEADER_SIZE + guesses * (isWide(wordLength) ? WIDE_GUESS_SIZE : GUESS_SIZE) + CHECKSUM_SIZE;
+    }
+
+    static long packGuess(long code, int pattern, int deltaMillis) {
+        long delta = Math.min(Math.max(deltaMillis, 0), MAX_DELTA_MILLIS);
+        return (code & ((1L << CODE_BITS) - 1))
+                | (long) (pattern & ((1 << PATTERN_BITS) - 1)) << CODE_BITS
+                | delta << (CODE_BITS + PATTERN_BITS);
+    }
+
+    // Hands everything buffered to the file, without forcing it to the device
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+// Plays a GameRecord back on a UI manager's board: each guess is typed letter by letter and then
+// scored with its recorded feedback, through the same GameListener calls the engine makes, at the
+// recorded pace. The replay needs no GameState, so the live game and the statistics are untouched.
+public class GameReplay {
+    private static final double LETTER_MILLIS = 120;
+    private static final long MAX_PAUSE_MILLIS = 3000;  // long thinking pauses are shortened to this
+    private static final double END_PAUSE_MILLIS = 1000;
+
+    private final Timeline timeline = new Timeline();
+
+    private GameReplay(GameRecord record, UIManager ui, double speed, Runnable onFinished) {
+        double time = 0;
+        int wordLength = record.wordLength();
+        for (int i = 0; i < record.guessCount(); i++) {
+            int row = i;
+            String guess = record.guess(i);
+            double typing = LETTER_MILLIS * (wordLength + 1);
+            time += Math.max(Math.min(record.deltaMillis()[i], MAX_PAUSE_MILLIS) / speed - typing, LETTER_MILLIS);
+            for (int col = 0; col < wordLength; col++) {
+                int letterCol = col;
+                time += LETTER_MILLIS;
+                at(time, () -> ui.onLetterChanged(null, row, letterCol, String.valueOf(guess.charAt(letterCol))));
+            }
+            time += LETTER_MILLIS;
+            GuessResult result = scored(record, i);
+            at(time, () -> ui.onGuessScored(null, result));
+        }
+        // Alerts cannot be shown from an animation callback, so whatever finishes the replay runs later
+        timeline.setOnFinished(e -> Platform.runLater(onFinished));
+        at(time + END_PAUSE_MILLIS, () -> { });
+    }
+
+    // Speed 1 keeps the recorded pace; 2 plays twice as fast
+    public static GameReplay play(GameRecord record, UIManager ui, double speed, Runnable onFinished) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("Replay speed must be positive: " + speed);
+        }
+        GameReplay replay = new GameReplay(record, ui, speed, onFinished);
+        replay.timeline.play();
+        return replay;
+    }
+
+    public void stop() {
+        timeline.stop();
+    }
+
+    private void at(double millis, Runnable action) {
+        timeline.getKeyFrames().add(new KeyFrame(Duration.millis(millis), e -> action.run()));
+    }
+
+    private static GuessResult scored(GameRecord record, int index) {
+        int attempt = index + 1;
+        boolean last = attempt == record.guessCount();
+        GuessResult.Outcome outcome = !last ? GuessResult.Outcome.ACCEPTED
+                : record.won() ? GuessResult.Outcome.WON : GuessResult.Outcome.LOST;
+        return new GuessResult(outcome, record.guess(index), record.patterns()[index], attempt,
+                outcome == GuessResult.Outcome.WON ? record.score() : 0, null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo;
+
+// One two-player session on WordleServer. Roles alternate the same way as MultiplayerRoleManager:
+// player 1 sets the first word, then the players switch after every round.
+class GameRoom {
+    final String name;
+    final WordleServer.Session[] players = new WordleServer.Session[2];
+    boolean player1SettingWord = true;
+    GameState state;  // null until the setter has chosen a word
+    int roundsFinished;  // each player's NEXT acknowledges one finished round
+
+    GameRoom(String name) {
+        this.name = name;
+    }
+
+    boolean isFull() {
+        return players[0] != null && players[1] != null;
+    }
+
+    boolean isEmpty() {
+        return players[0] == null && players[1] == null;
+    }
+
+    WordleServer.Session setter() {
+        return players[player1SettingWord ? 0 : 1];
+    }
+
+    WordleServer.Session guesser() {
+        return players[player1SettingWord ? 1 : 0];
+    }
+
+    WordleServer.Session opponentOf(WordleServer.Session session) {
+        return players[0] == session ? players[1] : players[0];
+    }
+
+    void switchRoles() {
+        player1SettingWord = !player1SettingWord;
+        state = null;
+    }
+}
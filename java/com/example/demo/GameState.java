@@ -0,0 +1,180 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+// State of one game, free of any UI: the secret, the letters typed for the current row and the
+// guesses made so far. GameEngine applies the rules; a state is only ever touched by one thread.
+public class GameState {
+
+    public enum Status { IN_PROGRESS, WON, LOST }
+
+    private final String secretWord;
+    private final long secretCode;
+    private final int wordLength;
+    private final char[] typed;
+    private int typedLength;
+    private final long[] guessCodes = new long[GameEngine.MAX_ATTEMPTS];
+    private final int[] guessPatterns = new int[GameEngine.MAX_ATTEMPTS];
+    private final long[] guessNanos = new long[GameEngine.MAX_ATTEMPTS];  // System.nanoTime() of each guess
+    private int attempts;
+    private Status status = Status.IN_PROGRESS;
+    private int score;
+    private final WordValidator wordValidator;  // Dictionary of the secret's length
+    private final CandidateSet candidates;  // Dictionary words still consistent with the feedback
+    private final HardModeConstraints hardMode;  // null unless the game is played in hard mode
+    private final long startMillis = System.currentTimeMillis();
+    private final long startNanos = System.nanoTime();
+    private long firstInputNanos;  // System.nanoTime() of the first letter or guess, 0 before it
+    private long finishNanos;
+
+    GameState(String secretWord, WordValidator wordValidator, CandidateSet candidates, boolean hardMode) {
+        this.secretWord = secretWord.toUpperCase();
+        this.secretCode = WordCodec.encodeLong(secretWord);
+        this.wordLength = secretWord.length();
+        this.typed = new char[wordLength];
+        this.wordValidator = wordValidator;
+        this.candidates = candidates;
+        this.hardMode = hardMode ? new HardModeConstraints(wordLength) : null;
+    }
+
+    public String getSecretWord() {
+        return secretWord;
+    }
+
+    public long getSecretCode() {
+        return secretCode;
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    // Row the next guess goes into
+    public int getCurrentRow() {
+        return attempts;
+    }
+
+    public int getTypedLength() {
+        return typedLength;
+    }
+
+    public String getTypedWord() {
+        return new String(typed, 0, typedLength);
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public long getGuessCode(int index) {
+        return guessCodes[index];
+    }
+
+    public int getGuessPattern(int index) {
+        return guessPatterns[index];
+    }
+
+    public long[] getGuessCodes() {
+        return Arrays.copyOf(guessCodes, attempts);
+    }
+
+    public int[] getGuessPatterns() {
+        return Arrays.copyOf(guessPatterns, attempts);
+    }
+
+    // Wall-clock time the game was created
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    // Nanoseconds from the creation of the game to the given guess
+    public long getGuessElapsedNanos(int index) {
+        return guessNanos[index] - startNanos;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isCompleted() {
+        return status != Status.IN_PROGRESS;
+    }
+
+    public boolean isWon() {
+        return status == Status.WON;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    // Nanoseconds from the first letter typed (or first guess) to the end of the game, 0 while in progress
+    public long getSolveNanos() {
+        return finishNanos != 0 ? finishNanos - firstInputNanos : 0;
+    }
+
+    public WordValidator getWordValidator() {
+        return wordValidator;
+    }
+
+    public boolean isHardMode() {
+        return hardMode != null;
+    }
+
+    // Constraints the next guess must meet, or null when the game is not in hard mode
+    public HardModeConstraints getHardModeConstraints() {
+        return hardMode;
+    }
+
+    // May be null when the engine was built without a candidate index
+    public CandidateSet getCandidates() {
+        return candidates;
+    }
+
+    boolean typeLetter(char letter) {
+        if (typedLength == wordLength) {
+            return false;
+        }
+        markInput();
+        typed[typedLength++] = letter;
+        return true;
+    }
+
+    boolean deleteLetter() {
+        if (typedLength == 0) {
+            return false;
+        }
+        typedLength--;
+        return true;
+    }
+
+    void clearTyped() {
+        typedLength = 0;
+    }
+
+    int recordGuess(long guessCode, int pattern) {
+        markInput();
+        guessCodes[attempts] = guessCode;
+        guessPatterns[attempts] = pattern;
+        guessNanos[attempts] = System.nanoTime();
+        if (candidates != null) {
+            candidates.apply(guessCode, pattern);
+        }
+        if (hardMode != null) {
+            hardMode.record(guessCode, pattern);
+        }
+        return ++attempts;
+    }
+
+    void finish(Status status, int score) {
+        this.status = status;
+        this.score = score;
+        this.finishNanos = System.nanoTime();
+    }
+
+    private void markInput() {
+        if (firstInputNanos == 0) {
+            firstInputNanos = System.nanoTime();
+        }
+    }
+}
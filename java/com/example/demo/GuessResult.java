@@ -0,0 +1,28 @@
+package com.example.demo;
+
+// Outcome of submitting one guess to GameEngine
+public record GuessResult(Outcome outcome, String guess, int pattern, int attempt, int score, String message) {
+
+    public enum Outcome {
+        ACCEPTED,       // scored, game continues
+        WON,
+        LOST,
+        INCOMPLETE,     // fewer letters than the word length
+        INVALID_WORD,   // not in the dictionary
+        HARD_MODE_VIOLATION,  // ignores a revealed letter; the message says which
+        GAME_OVER       // the game had already finished
+    }
+
+    public boolean isScored() {
+        return outcome == Outcome.ACCEPTED || outcome == Outcome.WON || outcome == Outcome.LOST;
+    }
+
+    public boolean isGameOver() {
+        return outcome == Outcome.WON || outcome == Outcome.LOST;
+    }
+
+    // Grid row the guess was scored into
+    public int row() {
+        return attempt - 1;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo;
+
+// Computes Wordle feedback for a guess against a secret and packs it into a base-3 int:
+// the state of position i is stored as digit i (ABSENT = 0, PRESENT = 1, CORRECT = 2),
+// so a 5-letter pattern is in 0-242.
+//
+// Repeated letters follow the usual rules: greens are assigned first, then each remaining
+// guess letter is yellow only while unmatched copies of it are left in the secret.
+// Scoring never allocates; the per-letter counts live in two longs, 4 bits per letter.
+public final class GuessScorer {
+    public static final int ABSENT = 0;
+    public static final int PRESENT = 1;
+    public static final int CORRECT = 2;
+    public static final int MAX_LENGTH = 8;
+
+    private static final int[] POWERS_OF_THREE = {1, 3, 9, 27, 81, 243, 729, 2187, 6561};
+
+    private GuessScorer() {
+    }
+
+    public static int score(CharSequence guess, CharSequence secret) {
+        int length = secret.length();
+        if (guess.length() != length || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Guess and secret must have the same length, at most " + MAX_LENGTH);
+        }
+
+        int pattern = 0;
+        int correctMask = 0;
+        long countsLow = 0;   // letters A-P
+        long countsHigh = 0;  // letters Q-Z
+        for (int i = 0; i < length; i++) {
+            int secretLetter = WordCodec.letterIndex(secret.charAt(i));
+            if (secretLetter >= 0 && secretLetter == WordCodec.letterIndex(guess.charAt(i))) {
+                pattern += CORRECT * POWERS_OF_THREE[i];
+                correctMask |= 1 << i;
+            } else if (secretLetter >= 16) {
+                countsHigh += 1L << ((secretLetter - 16) << 2);
+            } else if (secretLetter >= 0) {
+                countsLow += 1L << (secretLetter << 2);
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            if ((correctMask & (1 << i)) != 0) {
+                continue;
+            }
+            int guessLetter = WordCodec.letterIndex(guess.charAt(i));
+            if (guessLetter >= 16) {
+                long unit = 1L << ((guessLetter - 16) << 2);
+                if ((countsHigh & (unit * 0xF)) != 0) {
+                    countsHigh -= unit;
+                    pattern += PRESENT * POWERS_OF_THREE[i];
+                }
+            } else if (guessLetter >= 0) {
+                long unit = 1L << (guessLetter << 2);
+                if ((countsLow & (unit * 0xF)) != 0) {
+                    countsLow -= unit;
+                    pattern += PRESENT * POWERS_OF_THREE[i];
+                }
+            }
+        }
+        return pattern;
+    }
+
+    // Same as score(CharSequence, CharSequence) for words packed with WordCodec
+    public static int score(long guessCode, long secretCode, int length) {
+        int pattern = 0;
+        int correctMask = 0;
+        long countsLow = 0;
+        long countsHigh = 0;
+        for (int i = 0; i < length; i++) {
+            int secretLetter = WordCodec.letterAt(secretCode, i);
+            if (secretLetter == WordCodec.letterAt(guessCode, i)) {
+                pattern += CORRECT * POWERS_OF_THREE[i];
+                correctMask |= 1 << i;
+            } else if (secretLetter >= 16) {
+                countsHigh += 1L << ((secretLetter - 16) << 2);
+            } else {
+                countsLow += 1L << (secretLetter << 2);
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            if ((correctMask & (1 << i)) != 0) {
+                continue;
+            }
+            int guessLetter = WordCodec.letterAt(guessCode, i);
+            if (guessLetter >= 16) {
+                long unit = 1L << ((guessLetter - 16) << 2);
+                if ((countsHigh & (unit * 0xF)) != 0) {
+                    countsHigh -= unit;
+                    pattern += PRESENT * POWERS_OF_THREE[i];
+                }
+            } else {
+                long unit = 1L << (guessLetter << 2);
+                if ((countsLow & (unit * 0xF)) != 0) {
+                    countsLow -= unit;
+                    pattern += PRESENT * POWERS_OF_THREE[i];
+                }
+            }
+        }
+        return pattern;
+    }
+
+    public static int stateAt(int pattern, int position) {
+        return (pattern / POWERS_OF_THREE[position]) % 3;
+    }
+
+    // Pattern with every position CORRECT
+    public static int solvedPattern(int length) {
+        return POWERS_OF_THREE[length] - 1;
+    }
+
+    public static boolean isSolved(int pattern, int length) {
+        return pattern == solvedPattern(length);
+    }
+
+    // Number of distinct patterns for a word length, e.g. 243 for five letters
+    public static int patternCount(int length) {
+        return POWERS_OF_THREE[length];
+    }
+}
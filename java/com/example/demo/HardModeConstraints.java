@@ -0,0 +1,128 @@
+package com.example.demo;
+
+// Hard mode rules for one game: every green letter stays in its place and every revealed letter is
+// used at least as often as the feedback has shown it. Each scored row is folded into the
+// constraints as it arrives: the greens into a mask over the WordCodec layout and the minimum letter
+// counts into two longs, 4 bits per letter as in GuessScorer. So checking a guess costs a masked
+// compare and one pass over its own letters, however many rows came before.
+public class HardModeConstraints {
+    private static final long LETTER_MASK = (1L << WordCodec.BITS_PER_LETTER) - 1;
+    private static final String[] ORDINALS = {"1st", "2nd", "3rd", "4th", "5th", "6th", "7th", "8th"};
+
+    private final int wordLength;
+    private long greenMask;      // 5 bits set at each position whose letter is known
+    private long greenLetters;   // those letters, in place
+    private int requiredLetters; // bit per letter with a minimum count
+    private long minCountsLow;   // letters A-P
+    private long minCountsHigh;  // letters Q-Z
+
+    public HardModeConstraints(int wordLength) {
+        if (wordLength < 1 || wordLength > GuessScorer.MAX_LENGTH) {
+            throw new IllegalArgumentException("Word length must be between 1 and " + GuessScorer.MAX_LENGTH);
+        }
+        this.wordLength = wordLength;
+    }
+
+    // An independent copy, for reading off the thread that records guesses
+    public HardModeConstraints copy() {
+        HardModeConstraints copy = new HardModeConstraints(wordLength);
+        copy.greenMask = greenMask;
+        copy.greenLetters = greenLetters;
+        copy.requiredLetters = requiredLetters;
+        copy.minCountsLow = minCountsLow;
+        copy.minCountsHigh = minCountsHigh;
+        return copy;
+    }
+
+    // Folds in the feedback for one scored guess
+    public void record(long guessCode, int pattern) {
+        long countsLow = 0;
+        long countsHigh = 0;
+        int rowLetters = 0;
+        for (int i = 0; i < wordLength; i++) {
+            int state = GuessScorer.stateAt(pattern, i);
+            if (state == GuessScorer.ABSENT) {
+                continue;
+            }
+            int letter = WordCodec.letterAt(guessCode, i);
+            if (state == GuessScorer.CORRECT) {
+                int shift = i * WordCodec.BITS_PER_LETTER;
+                greenMask |= LETTER_MASK << shift;
+                greenLetters = (greenLetters & ~(LETTER_MASK << shift)) | (long) letter << shift;
+            }
+            if (letter >= 16) {
+                countsHigh += 1L << ((letter - 16) << 2);
+            } else {
+                countsLow += 1L << (letter << 2);
+            }
+            rowLetters |= 1 << letter;
+        }
+        requiredLetters |= rowLetters;
+        // A row shows a lower bound on each letter it revealed; keep the highest seen so far
+        for (int letters = rowLetters; letters != 0; letters &= letters - 1) {
+            int letter = Integer.numberOfTrailingZeros(letters);
+            int count = count(countsLow, countsHigh, letter);
+            if (count > minCount(letter)) {
+                setMinCount(letter, count);
+            }
+        }
+    }
+
+    // Why the guess breaks the rules, or null if it keeps them
+    public String violation(long guessCode) {
+        long misplaced = (guessCode ^ greenLetters) & greenMask;
+        if (misplaced != 0) {
+            int position = Long.numberOfTrailingZeros(misplaced) / WordCodec.BITS_PER_LETTER;
+            return ORDINALS[position] + " letter must be " + letterName(WordCodec.letterAt(greenLetters, position));
+        }
+        if (requiredLetters == 0) {
+            return null;
+        }
+        long countsLow = 0;
+        long countsHigh = 0;
+        for (int i = 0; i < wordLength; i++) {
+            int letter = WordCodec.letterAt(guessCode, i);
+            if (letter >= 16) {
+                countsHigh += 1L << ((letter - 16) << 2);
+            } else {
+                countsLow += 1L << (letter << 2);
+            }
+        }
+        for (int letters = requiredLetters; letters != 0; letters &= letters - 1) {
+            int letter = Integer.numberOfTrailingZeros(letters);
+            int required = minCount(letter);
+            if (count(countsLow, countsHigh, letter) < required) {
+                return required == 1 ? "Guess must contain " + letterName(letter)
+                        : "Guess must contain " + required + " " + letterName(letter) + "s";
+            }
+        }
+        return null;
+    }
+
+    public boolean allows(long guessCode) {
+        return violation(guessCode) == null;
+    }
+
+    private int minCount(int letter) {
+        return count(minCountsLow, minCountsHigh, letter);
+    }
+
+    private void setMinCount(int letter, int count) {
+        if (letter >= 16) {
+            int shift = (letter - 16) << 2;
+            minCountsHigh = (minCountsHigh & ~(0xFL << shift)) | (long) count << shift;
+        } else {
+            int shift = letter << 2;
+            minCountsLow = (minCountsLow & ~(0xFL << shift)) | (long) count << shift;
+        }
+    }
+
+    private static int count(long countsLow, long countsHigh, int letter) {
+        return letter >= 16 ? (int) (countsHigh >>> ((letter - 16) << 2)) & 0xF
+                : (int) (countsLow >>> (letter << 2)) & 0xF;
+    }
+
+    private static String letterName(int letter) {
+        return String.valueOf((char) ('A' + letter));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+// Immutable fixed-bucket histogram taken from StatisticsManager. Bucket i counts values up to and
+// including upperBound(i); histograms with the same bounds merge by adding counts. Percentiles
+// resolve to the upper bound of the bucket that holds the requested rank.
+public final class Histogram {
+    // Guess distribution: 1-6 guesses, then one bucket for failed games
+    public static final int FAILED = GameEngine.MAX_ATTEMPTS + 1;
+    static final long[] GUESS_BOUNDS = {1, 2, 3, 4, 5, 6, FAILED};
+
+    // Solve time: four buckets per doubling from half a second, the last one open-ended
+    static final long[] SOLVE_TIME_BOUNDS = solveTimeBounds(48, 500_000_000L);
+
+    private final long[] upperBounds;
+    private final long[] counts;
+
+    Histogram(long[] upperBounds, long[] counts) {
+        this.upperBounds = upperBounds;
+        this.counts = counts;
+    }
+
+    public static int guessBucket(boolean won, int attempts) {
+        return won ? Math.max(1, Math.min(attempts, GameEngine.MAX_ATTEMPTS)) - 1 : GUESS_BOUNDS.length - 1;
+    }
+
+    public static int solveTimeBucket(long nanos) {
+        int index = Arrays.binarySearch(SOLVE_TIME_BOUNDS, nanos);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    public int bucketCount() {
+        return counts.length;
+    }
+
+    public long count(int bucket) {
+        return counts[bucket];
+    }
+
+    public long upperBound(int bucket) {
+        return upperBounds[bucket];
+    }
+
+    public long totalCount() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public Histogram merge(Histogram other) {
+        if (!Arrays.equals(upperBounds, other.upperBounds)) {
+            throw new IllegalArgumentException("Histograms have different buckets");
+        }
+        long[] merged = counts.clone();
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] += other.counts[i];
+        }
+        return new Histogram(upperBounds, merged);
+    }
+
+    // percent in (0, 100]; returns 0 for an empty histogram
+    public long percentile(double percent) {
+        long total = totalCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percent / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBounds[i];
+            }
+        }
+        return upperBounds[upperBounds.length - 1];
+    }
+
+    private static long[] solveTimeBounds(int buckets, long firstBoundNanos) {
+        long[] bounds = new long[buckets];
+        for (int i = 0; i < buckets - 1; i++) {
+            bounds[i] = (long) (firstBoundNanos * Math.pow(2, i / 4.0));
+        }
+        bounds[buckets - 1] = Long.MAX_VALUE;
+        return bounds;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.demo;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Top-K winning games per time window, ranked by score and then by solve time (first key press to
+// the winning guess). Each window is a concurrent skip list trimmed back to its capacity after every
+// insert, so submits are O(log K) from any thread and top() iterates without locking. The daily
+// and weekly boards are replaced by an empty one when the first entry of a new period arrives.
+public class Leaderboard {
+    public static final int DEFAULT_CAPACITY = 100;
+
+    public enum Window { DAILY, WEEKLY, ALL_TIME }
+
+    public record Entry(String player, int score, long solveNanos, long timestampMillis, long sequence) {
+    }
+
+    // Best first; games without a measured time rank after timed ones, then earlier entries win
+    private static final Comparator<Entry> RANKING = Comparator.comparingInt(Entry::score).reversed()
+            .thenComparingLong(entry -> entry.solveNanos() > 0 ? entry.solveNanos() : Long.MAX_VALUE)
+            .thenComparingLong(Entry::sequence);
+
+    private final int capacity;
+    private final ZoneId zone;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicReferenceArray<Board> boards = new AtomicReferenceArray<>(Window.values().length);
+
+    public Leaderboard() {
+        this(DEFAULT_CAPACITY, ZoneId.systemDefault());
+    }
+
+    public Leaderboard(int capacity, ZoneId zone) {
+        this.capacity = capacity;
+        this.zone = zone;
+        for (Window window : Window.values()) {
+            boards.set(window.ordinal(), new Board(Long.MIN_VALUE));
+        }
+    }
+
+    // Returns true if the game made it onto at least one board
+    public boolean submit(String player, int score, long solveNanos, long timestampMillis) {
+        Entry entry = new Entry(player, score, solveNanos, timestampMillis, sequence.getAndIncrement());
+        LocalDate date = Instant.ofEpochMilli(timestampMillis).atZone(zone).toLocalDate();
+        boolean ranked = false;
+        for (Window window : Window.values()) {
+            long period = periodOf(window, date);
+            Board board = boards.get(window.ordinal());
+            if (board.period < period) {
+                boards.compareAndSet(window.ordinal(), board, new Board(period));
+                board = boards.get(window.ordinal());
+            }
+            if (board.period == period && board.offer(entry, capacity)) {
+                ranked = true;
+            }
+        }
+        return ranked;
+    }
+
+    // Best entries of the current period, at most limit of them
+    public List<Entry> top(Window window, int limit) {
+        Board board = boards.get(window.ordinal());
+        if (board.period != periodOf(window, LocalDate.now(zone))) {
+            return Collections.emptyList();
+        }
+        List<Entry> top = new ArrayList<>(Math.min(limit, capacity));
+        Iterator<Entry> entries = board.entries.iterator();
+        while (top.size() < limit && entries.hasNext()) {
+            top.add(entries.next());
+        }
+        return top;
+    }
+
+    // Every entry still on some board, oldest first; submitting them in this order rebuilds the boards
+    List<Entry> entries() {
+        TreeSet<Entry> all = new TreeSet<>(Comparator.comparingLong(Entry::sequence));
+        for (Window window : Window.values()) {
+            all.addAll(boards.get(window.ordinal()).entries);
+        }
+        return new ArrayList<>(all);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private static long periodOf(Window window, LocalDate date) {
+        switch (window) {
+            case DAILY:
+                return date.toEpochDay();
+            case WEEKLY:
+                return date.with(DayOfWeek.MONDAY).toEpochDay();
+            default:
+                return 0;
+        }
+    }
+
+    private static final class Board {
+        final long period;
+        final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(RANKING);
+        final AtomicInteger size = new AtomicInteger();
+
+        Board(long period) {
+            this.period = period;
+        }
+
+        boolean offer(Entry entry, int capacity) {
+            if (size.get() >= capacity) {
+                // Full: most games rank below the last entry and are turned away without a write
+                Iterator<Entry> worst = entries.descendingIterator();
+                if (worst.hasNext() && RANKING.compare(entry, worst.next()) > 0) {
+                    return false;
+                }
+            }
+            entries.add(entry);
+            if (size.incrementAndGet() > capacity) {
+                Entry removed = entries.pollLast();
+                if (removed != null) {
+                    size.decrementAndGet();
+                }
+                return removed != entry;
+            }
+            return true;
+        }
+    }
+}
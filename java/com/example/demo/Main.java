@@ -2,61 +2,295 @@ package com.example.demo;
 
 import javafx.application.Application;
 import javafx.application.HostServices;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Scene;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.Tab;
+import javafx.scene.control.TabPane;
+import javafx.scene.control.TextInputDialog;
 import javafx.scene.layout.VBox;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
+import jdk.jfr.Recording;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.shape.SVGPath;
 import javafx.scene.paint.Color;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 public class Main extends Application {
+    private static final String MAIN_MENU = "main-menu";
+    private static final String SINGLE_PLAYER_SCOREBOARD = "single-player-scoreboard";
+    private static final String MULTI_PLAYER_SCOREBOARD = "multi-player-scoreboard";
+    private static final String LEADERBOARD = "leaderboard";
+
     private Stage primaryStage;
+    private ScreenRegistry screens;
     private SinglePlayerUIManager singlePlayerUIManager;
     private MultiPlayerUIManager multiPlayerUIManager;
     private WordleGame wordleGame;
     private StatisticsManager statisticsManager;
-    private WordValidator wordValidator;
+    private DictionaryRegistry dictionaries;
     private TutorialManager tutorialManager;
+    private volatile StatisticsLog statisticsLog;
+    private volatile GameRecordWriter gameRecords;
+    private volatile Map<Integer, WordScheduler.Cursor> wordSchedules = Map.of();
+    private StartupMetrics startupMetrics;
+    private Recording flightRecording;
+    private Label loadingLabel;
+    private HBox wordLengthBox;
+    private ChoiceBox<Integer> wordLengthChoice;
+    private HBox difficultyBox;
+    private ChoiceBox<String> difficultyChoice;
+    private CheckBox hardModeToggle;
+    private final List<Node> gameModes = new ArrayList<>();  // enabled once the dictionary is loaded
+    private final List<Node> statisticsModes = new ArrayList<>();  // enabled once saved statistics are restored
+    private boolean gamesReady;
+    private boolean statisticsReady;
+    private final Map<Leaderboard.Window, ListView<String>> leaderboardRows = new EnumMap<>(Leaderboard.Window.class);
 
     @Override
     public void start(Stage primaryStage) {
+        startupMetrics = new StartupMetrics();
+        flightRecording = WordleEvents.startConfiguredRecording();
+        GameMetrics.expose();
         this.primaryStage = primaryStage;
         primaryStage.setTitle("Wordle");
 
         statisticsManager = new StatisticsManager();
-        wordValidator = new WordValidator();
-        wordleGame = new WordleGame(statisticsManager, wordValidator);
-        wordleGame.setMainApplication(this);
-        tutorialManager = new TutorialManager(primaryStage, this);
 
+        screens = new ScreenRegistry(primaryStage);
+        screens.register(MAIN_MENU, this::createModeSelectionLayout, null, true);
+        screens.register(SINGLE_PLAYER_SCOREBOARD, () -> createScoreboardLayout("Single Player Scoreboard"),
+                layout -> showStatistics(layout, statisticsManager.getSinglePlayerStatisticsNode()), false);
+        screens.register(MULTI_PLAYER_SCOREBOARD, () -> createScoreboardLayout("Multiplayer Scoreboard"),
+                layout -> showStatistics(layout, statisticsManager.getMultiPlayerStatisticsNode()), false);
+        screens.register(LEADERBOARD, this::createLeaderboardLayout, layout -> refreshLeaderboard(), false);
+        tutorialManager = new TutorialManager(screens, this);
+
+        // The menu goes up first; everything that reads from disk loads behind it
         showMainScreen();
+        startupMetrics.markFirstFrameOnNextPulse();
+        loadInBackground();
+    }
+
+    private void loadInBackground() {
+        ExecutorService executor = Executors.newFixedThreadPool(3, task -> {
+            Thread thread = new Thread(task, "wordle-startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // A failure in either side task is reported and played through without it, as the tasks do for IOException
+        CompletableFuture<Void> statistics = CompletableFuture.runAsync(
+                () -> startupMetrics.run("statistics", this::openStatisticsLog), executor)
+                .exceptionally(error -> {
+                    System.err.println("Statistics will not be saved: " + error.getMessage());
+                    return null;
+                });
+        CompletableFuture<Void> history = CompletableFuture.runAsync(() -> {
+            startupMetrics.run("game history", this::openGameRecords);
+            startupMetrics.run("word schedule", this::loadWordSchedules);
+        }, executor).exceptionally(error -> {
+            System.err.println("Game history and word schedule not loaded: " + error.getMessage());
+            return null;
+        });
+        CompletableFuture<WordValidator> dictionary = CompletableFuture.supplyAsync(
+                () -> startupMetrics.time("dictionary", WordValidator::new), executor);
+        executor.shutdown();  // lets the three tasks finish, then the threads exit
+
+        statistics.thenRunAsync(this::onStatisticsLoaded, Platform::runLater);
+        // Games record statistics and history and draw from the saved schedule, so they wait for all three
+        dictionary.thenCombine(CompletableFuture.allOf(statistics, history), (validator, ignored) -> validator)
+                .whenCompleteAsync(this::onDictionaryLoaded, Platform::runLater);
+    }
+
+    private void openStatisticsLog() {
+        try {
+            statisticsLog = StatisticsLog.open(StatisticsLog.defaultDirectory(), statisticsManager);
+            statisticsManager.setEventLog(statisticsLog);
+        } catch (IOException e) {
+            System.err.println("Statistics will not be saved: " + e.getMessage());
+        }
+    }
+
+    private void openGameRecords() {
+        try {
+            gameRecords = GameRecordWriter.open(GameRecordWriter.defaultPath());
+        } catch (IOException e) {
+            System.err.println("Games will not be recorded: " + e.getMessage());
+        }
+    }
+
+    private void loadWordSchedules() {
+        try {
+            wordSchedules = WordScheduler.load(WordScheduler.defaultPath());
+        } catch (IOException e) {
+            System.err.println("Secret words start a new schedule: " + e.getMessage());
+        }
+    }
+
+    private void onStatisticsLoaded() {
+        statisticsReady = true;
+        statisticsModes.forEach(mode -> mode.setDisable(false));
+    }
+
+    private void onDictionaryLoaded(WordValidator validator, Throwable error) {
+        if (error != null) {
+            System.err.println("Error loading the dictionary: " + error.getMessage());
+            loadingLabel.setText("Could not load the word list");
+            return;
+        }
+        dictionaries = new DictionaryRegistry(validator);
+        wordleGame = new WordleGame(statisticsManager, dictionaries);
+        wordleGame.setMainApplication(this);
+        wordleGame.setGameRecordWriter(gameRecords);
+        wordleGame.restoreWordSchedules(wordSchedules);
+
+        gamesReady = true;
+        gameModes.forEach(mode -> mode.setDisable(false));
+        loadingLabel.setVisible(false);
+        loadingLabel.setManaged(false);
+        showWordLengths();
+        showDifficulties();
+        startupMetrics.markInteractive();
+
+        // Build the game boards off-screen one pulse at a time so the first game opens instantly
+        Platform.runLater(() -> startupMetrics.run("single-player layout", () -> {
+            ensureSinglePlayerUIManager();
+            screens.get(SinglePlayerUIManager.SCREEN);
+        }));
+        Platform.runLater(() -> startupMetrics.run("multiplayer layout", () -> {
+            ensureMultiPlayerUIManager();
+            screens.get(MultiPlayerUIManager.SCREEN);
+        }));
+        Platform.runLater(startupMetrics::commitEvents);
+    }
+
+    // The length chooser only appears when word lists for more than one length are installed
+    private void showWordLengths() {
+        List<Integer> lengths = dictionaries.getAvailableLengths();
+        if (lengths.size() < 2) {
+            return;
+        }
+        wordLengthChoice.getItems().setAll(lengths);
+        wordLengthChoice.setValue(wordleGame.getWordLength());
+        wordLengthChoice.setOnAction(e -> selectWordLength(wordLengthChoice.getValue()));
+        wordLengthBox.setVisible(true);
+        wordLengthBox.setManaged(true);
+    }
+
+    // Difficulty tiers need word frequencies, so the chooser follows the dictionary of the chosen length
+    private void showDifficulties() {
+        boolean available = wordleGame.getDictionaries().get(wordleGame.getWordLength()).hasFrequencies();
+        if (!available) {
+            wordleGame.setDifficulty(null);
+        }
+        difficultyChoice.getSelectionModel().select(difficultyIndex(wordleGame.getDifficulty()));
+        difficultyBox.setVisible(available);
+        difficultyBox.setManaged(available);
+    }
+
+    private static int difficultyIndex(DifficultyTier tier) {
+        return tier != null ? tier.ordinal() + 1 : 0;
+    }
+
+    // Loads the dictionary for the new length off the FX thread, holding back new games until it is in
+    private void selectWordLength(Integer wordLength) {
+        if (wordLength == null || wordLength == wordleGame.getWordLength()) {
+            return;
+        }
+        if (dictionaries.isLoaded(wordLength)) {
+            wordleGame.setWordLength(wordLength);
+            showDifficulties();
+            return;
+        }
+        gameModes.forEach(mode -> mode.setDisable(true));
+        loadingLabel.setText("Loading " + wordLength + "-letter words...");
+        loadingLabel.setVisible(true);
+        loadingLabel.setManaged(true);
+        CompletableFuture.supplyAsync(() -> dictionaries.get(wordLength))
+                .whenCompleteAsync((validator, error) -> {
+                    if (error != null) {
+                        System.err.println("Error loading the " + wordLength + "-letter dictionary: " + error.getMessage());
+                        wordLengthChoice.setValue(wordleGame.getWordLength());
+                    } else {
+                        wordleGame.setWordLength(wordLength);
+                        showDifficulties();
+                    }
+                    gameModes.forEach(mode -> mode.setDisable(false));
+                    loadingLabel.setVisible(false);
+                    loadingLabel.setManaged(false);
+                }, Platform::runLater);
+    }
+
+    public StartupMetrics getStartupMetrics() {
+        return startupMetrics;
     }
 
     private void showMainScreen() {
-        VBox modeSelectionLayout = createModeSelectionLayout();
-        Scene modeSelectionScene = new Scene(modeSelectionLayout, 500, 800);
-        primaryStage.setScene(modeSelectionScene);
-        primaryStage.show();
+        screens.show(MAIN_MENU);
     }
 
     private VBox createModeSelectionLayout() {
         VBox layout = new VBox(15);  // Added spacing between buttons
         layout.setAlignment(Pos.CENTER);
-        layout.setPadding(new Insets(20));
-        layout.setStyle("-fx-background-color: #f5f5f5;");  // Light gray background
+        layout.getStyleClass().add("menu-screen");  // Light gray background
 
-        Label titleLabel = new Label("Wordle");
-        titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 48));
-        titleLabel.setTextFill(Color.BLACK);
+        Label titleLabel = Styles.styled(new Label("Wordle"), "menu-title");
         titleLabel.setPadding(new Insets(0, 0, 20, 0));
 
+        loadingLabel = Styles.styled(new Label("Loading word list..."), "card-description");
+        loadingLabel.setVisible(!gamesReady);
+        loadingLabel.setManaged(!gamesReady);
+
+        wordLengthChoice = new ChoiceBox<>();
+        wordLengthChoice.setFocusTraversable(false);
+        wordLengthBox = new HBox(10, Styles.styled(new Label("Word length"), "card-description"), wordLengthChoice);
+        wordLengthBox.setAlignment(Pos.CENTER);
+        wordLengthBox.setVisible(false);
+        wordLengthBox.setManaged(false);
+
+        difficultyChoice = new ChoiceBox<>();
+        difficultyChoice.setFocusTraversable(false);
+        difficultyChoice.getItems().add("Any word");
+        for (DifficultyTier tier : DifficultyTier.values()) {
+            difficultyChoice.getItems().add(tier.getDisplayName());
+        }
+        difficultyChoice.setOnAction(e -> {
+            int selected = difficultyChoice.getSelectionModel().getSelectedIndex();
+            wordleGame.setDifficulty(selected > 0 ? DifficultyTier.values()[selected - 1] : null);
+        });
+        difficultyBox = new HBox(10, Styles.styled(new Label("Difficulty"), "card-description"), difficultyChoice);
+        difficultyBox.setAlignment(Pos.CENTER);
+        difficultyBox.setVisible(false);
+        difficultyBox.setManaged(false);
+
+        hardModeToggle = Styles.styled(new CheckBox("Hard mode: revealed letters must be used"), "card-description");
+        hardModeToggle.setFocusTraversable(false);
+        hardModeToggle.setOnAction(e -> wordleGame.setHardMode(hardModeToggle.isSelected()));
+        if (gamesReady) {
+            showWordLengths();
+            showDifficulties();
+            hardModeToggle.setSelected(wordleGame.isHardMode());
+        }
+
         HBox singlePlayerBox = createModeBox("Singleplayer", "Classic Wordle experience",
                 "M16 8A8 8 0 1 1 0 8a8 8 0 0 1 16 0z", // Circle
                 Color.web("#FF9800"), e -> startSinglePlayerGame());
@@ -65,6 +299,14 @@ public class Main extends Application {
                 "M8 0 L16 16 L0 16 Z", // Triangle
                 Color.web("#2196F3"), e -> startMultiPlayerGame());
 
+        HBox onlineBox = createModeBox("Online Multiplayer", "Play against a friend over the network",
+                "M8 0 L16 8 L8 16 L0 8 Z", // Diamond
+                Color.web("#009688"), e -> startOnlineMultiPlayerGame());
+
+        HBox replayBox = createModeBox("Replay Last Game", "Watch your most recent game again",
+                "M3 1v14l11-7z", // Play
+                Color.web("#607D8B"), e -> replayLastGame());
+
         HBox tutorialBox = createModeBox("How to Play", "Learn the rules",
                 "M8 15A7 7 0 1 1 8 1a7 7 0 0 1 0 14zm0 1A8 8 0 1 0 8 0a8 8 0 0 0 0 16zm-1-9h2v4H7V7zm0-3h2v2H7V4z", // Question mark
                 Color.web("#795548"), e -> showTutorial());
@@ -77,25 +319,31 @@ public class Main extends Application {
                 "M2.146 2.854a.5.5 0 1 1 .708-.708L8 7.293l5.146-5.147a.5.5 0 0 1 .708.708L8.707 8l5.147 5.146a.5.5 0 0 1-.708.708L8 8.707l-5.146 5.147a.5.5 0 0 1-.708-.708L7.293 8 2.146 2.854Z", // X
                 Color.web("#9C27B0"), e -> showMultiPlayerScoreboard());
 
-        layout.getChildren().addAll(titleLabel, singlePlayerBox, multiPlayerBox,
-                singlePlayerScoreboardBox, multiPlayerScoreboardBox, tutorialBox);
+        HBox leaderboardBox = createModeBox("Leaderboard", "Fastest wins today, this week and all time",
+                "M3 14h2V7H3v7zm4 0h2V2H7v12zm4 0h2V9h-2v5z", // Bars
+                Color.web("#E91E63"), e -> showLeaderboard());
+
+        gate(gameModes, gamesReady, singlePlayerBox, multiPlayerBox, onlineBox, replayBox, wordLengthBox, difficultyBox, hardModeToggle);
+        gate(statisticsModes, statisticsReady, singlePlayerScoreboardBox, multiPlayerScoreboardBox, leaderboardBox);
+
+        layout.getChildren().addAll(titleLabel, loadingLabel, wordLengthBox, difficultyBox, hardModeToggle, singlePlayerBox, multiPlayerBox, onlineBox,
+                singlePlayerScoreboardBox, multiPlayerScoreboardBox, leaderboardBox, replayBox, tutorialBox);
         return layout;
     }
 
+    private static void gate(List<Node> gated, boolean ready, Node... modes) {
+        for (Node mode : modes) {
+            mode.setDisable(!ready);
+            gated.add(mode);
+        }
+    }
+
     private HBox createModeBox(String title, String description, String iconPath, Color bgColor, javafx.event.EventHandler<javafx.event.ActionEvent> action) {
         HBox box = new HBox(15);
         box.setAlignment(Pos.CENTER_LEFT);
         box.setPadding(new Insets(10, 20, 10, 20));
         box.setPrefSize(400, 60);
-        box.setStyle(
-                "-fx-background-color: white; " +
-                        "-fx-border-color: #e0e0e0; " +
-                        "-fx-border-width: 1; " +
-                        "-fx-border-radius: 5; " +
-                        "-fx-background-radius: 5; " +
-                        "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.1), 5, 0, 0, 1); " +
-                        "-fx-cursor: hand; "
-        );
+        box.getStyleClass().addAll("card", "mode-box");
 
         // Create icon
         SVGPath icon = new SVGPath();
@@ -111,13 +359,8 @@ public class Main extends Application {
 
         // Create text content
         VBox textBox = new VBox(2);
-        Label titleLabel = new Label(title);
-        titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 16));
-        titleLabel.setTextFill(Color.BLACK);
-
-        Label descLabel = new Label(description);
-        descLabel.setFont(Font.font("Arial", 12));
-        descLabel.setTextFill(Color.GRAY);
+        Label titleLabel = Styles.styled(new Label(title), "card-heading");
+        Label descLabel = Styles.styled(new Label(description), "card-description");
 
         textBox.getChildren().addAll(titleLabel, descLabel);
 
@@ -136,95 +379,219 @@ public class Main extends Application {
     }
 
     private void startSinglePlayerGame() {
-        if (singlePlayerUIManager == null) {
-            singlePlayerUIManager = new SinglePlayerUIManager(statisticsManager, wordValidator);
-            singlePlayerUIManager.setWordleGame(wordleGame);
-        }
+        ensureSinglePlayerUIManager();
         wordleGame.setSinglePlayerUIManager(singlePlayerUIManager);
-        VBox gameLayout = singlePlayerUIManager.createSinglePlayerGameLayout();
-        Scene gameScene = new Scene(gameLayout);
-        primaryStage.setScene(gameScene);
+        singlePlayerUIManager.showGameScreen();
         wordleGame.startNewSinglePlayerGame();
-        gameLayout.requestFocus();
     }
 
     private void startMultiPlayerGame() {
+        startMultiPlayerGame(wordleGame.getWordLength());
+    }
+
+    private void startMultiPlayerGame(int wordLength) {
+        ensureMultiPlayerUIManager();
+        wordleGame.setMultiPlayerUIManager(multiPlayerUIManager);
+        multiPlayerUIManager.setWordLength(wordLength);
+        multiPlayerUIManager.showGameScreen();
+        multiPlayerUIManager.initializeMultiplayerGame();
+    }
+
+    // Replays the last game of this session, or else the last one in the saved history
+    private void replayLastGame() {
+        GameRecord record = wordleGame.getLastRecord();
+        if (record != null) {
+            replay(record);
+            return;
+        }
+        Path history = GameRecordWriter.defaultPath();
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return Files.isRegularFile(history) ? GameRecordReader.readLast(history) : null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).whenCompleteAsync((saved, error) -> {
+            if (error != null) {
+                System.err.println("Error reading game history: " + error.getMessage());
+            }
+            if (saved != null) {
+                replay(saved);
+            } else {
+                ensureSinglePlayerUIManager();
+                singlePlayerUIManager.showAlert("No games have been recorded yet.");
+            }
+        }, Platform::runLater);
+    }
+
+    private void replay(GameRecord record) {
+        ensureSinglePlayerUIManager();
+        ensureMultiPlayerUIManager();
+        wordleGame.setSinglePlayerUIManager(singlePlayerUIManager);
+        wordleGame.setMultiPlayerUIManager(multiPlayerUIManager);
+        wordleGame.replay(record);
+    }
+
+    private void ensureSinglePlayerUIManager() {
+        if (singlePlayerUIManager == null) {
+            singlePlayerUIManager = new SinglePlayerUIManager(statisticsManager, dictionaries, screens);
+            singlePlayerUIManager.setWordleGame(wordleGame);
+        }
+    }
+
+    private void ensureMultiPlayerUIManager() {
         if (multiPlayerUIManager == null) {
-            multiPlayerUIManager = new MultiPlayerUIManager(statisticsManager, wordValidator, primaryStage);
+            multiPlayerUIManager = new MultiPlayerUIManager(statisticsManager, dictionaries, screens);
             multiPlayerUIManager.setWordleGame(wordleGame);
         }
+    }
+
+    private void startOnlineMultiPlayerGame() {
+        TextInputDialog dialog = new TextInputDialog("localhost:" + WordleProtocol.DEFAULT_PORT + "/lobby");
+        dialog.setTitle("Online Multiplayer");
+        dialog.setHeaderText("Enter the server and room as host:port/room");
+        dialog.setContentText("Server:");
+        String target = dialog.showAndWait().orElse(null);
+        if (target == null) {
+            return;
+        }
+
+        int slash = target.indexOf('/');
+        int colon = target.lastIndexOf(':', slash < 0 ? target.length() : slash);
+        String room = slash < 0 ? "lobby" : target.substring(slash + 1).trim();
+        String hostAndPort = slash < 0 ? target.trim() : target.substring(0, slash).trim();
+        String host = colon < 0 ? hostAndPort : hostAndPort.substring(0, colon);
+        int port;
+        try {
+            port = colon < 0 ? WordleProtocol.DEFAULT_PORT : Integer.parseInt(hostAndPort.substring(colon + 1));
+        } catch (NumberFormatException ex) {
+            System.err.println("Invalid port in " + target);
+            return;
+        }
+
+        // The server deals the roles, so the hot-seat setup of startMultiPlayerGame is skipped
+        ensureMultiPlayerUIManager();
         wordleGame.setMultiPlayerUIManager(multiPlayerUIManager);
-        VBox gameLayout = multiPlayerUIManager.createMultiPlayerGameLayout();
-        Scene gameScene = new Scene(gameLayout);
-        primaryStage.setScene(gameScene);
-        multiPlayerUIManager.initializeMultiplayerGame();
-        gameLayout.requestFocus();
+        multiPlayerUIManager.setWordLength(dictionaries.getDefaultLength());  // the server plays fixed-length words
+        multiPlayerUIManager.showGameScreen();
+        try {
+            multiPlayerUIManager.connectToServer(host, port, room);
+        } catch (java.io.IOException ex) {
+            System.err.println("Error connecting to " + host + ":" + port + ": " + ex.getMessage());
+            multiPlayerUIManager.showAlert("Could not connect to " + host + ":" + port);
+            showMainScreen();
+        }
     }
 
     private void showSinglePlayerScoreboard() {
+        screens.show(SINGLE_PLAYER_SCOREBOARD);
+    }
+
+    private void showMultiPlayerScoreboard() {
+        screens.show(MULTI_PLAYER_SCOREBOARD);
+    }
+
+    // Title, statistics and back button; the statistics are filled in by showStatistics
+    private VBox createScoreboardLayout(String title) {
         VBox scoreboardLayout = new VBox(20);
         scoreboardLayout.setAlignment(Pos.CENTER);
-        scoreboardLayout.setPadding(new Insets(20));
-        scoreboardLayout.setStyle("-fx-background-color: #f5f5f5;");
-
-        Label titleLabel = new Label("Single Player Scoreboard");
-        titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 32));
-        titleLabel.setTextFill(Color.BLACK);
+        scoreboardLayout.getStyleClass().add("menu-screen");
 
-        VBox statsNode = statisticsManager.getSinglePlayerStatisticsNode();
+        Label titleLabel = Styles.styled(new Label(title), "screen-title");
 
         Button backButton = new Button("Back to Main Menu");
         backButton.setOnAction(e -> showMainScreen());
-        backButton.setStyle(
-                "-fx-background-color: #2196F3; " +
-                        "-fx-text-fill: white; " +
-                        "-fx-font-size: 14px; " +
-                        "-fx-padding: 10 20; " +
-                        "-fx-border-radius: 5; " +
-                        "-fx-background-radius: 5;"
-        );
+        backButton.getStyleClass().add("back-button");
 
-        scoreboardLayout.getChildren().addAll(titleLabel, statsNode, backButton);
+        scoreboardLayout.getChildren().addAll(titleLabel, new VBox(), backButton);
+        return scoreboardLayout;
+    }
 
-        Scene scoreboardScene = new Scene(scoreboardLayout, 400, 600);
-        primaryStage.setScene(scoreboardScene);
+    private void showStatistics(Parent scoreboardLayout, VBox statsNode) {
+        ((VBox) scoreboardLayout).getChildren().set(1, statsNode);
     }
 
-    private void showMultiPlayerScoreboard() {
-        VBox scoreboardLayout = new VBox(20);
-        scoreboardLayout.setAlignment(Pos.CENTER);
-        scoreboardLayout.setPadding(new Insets(20));
-        scoreboardLayout.setStyle("-fx-background-color: #f5f5f5;");
+    private void showLeaderboard() {
+        screens.show(LEADERBOARD);
+    }
+
+    private VBox createLeaderboardLayout() {
+        VBox leaderboardLayout = new VBox(20);
+        leaderboardLayout.setAlignment(Pos.CENTER);
+        leaderboardLayout.getStyleClass().add("menu-screen");
 
-        Label titleLabel = new Label("Multiplayer Scoreboard");
-        titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 32));
-        titleLabel.setTextFill(Color.BLACK);
+        Label titleLabel = Styles.styled(new Label("Leaderboard"), "screen-title");
 
-        VBox statsNode = statisticsManager.getMultiPlayerStatisticsNode();
+        TabPane windows = new TabPane();
+        windows.setTabClosingPolicy(TabPane.TabClosingPolicy.UNAVAILABLE);
+        windows.getTabs().addAll(
+                createLeaderboardTab("Today", Leaderboard.Window.DAILY),
+                createLeaderboardTab("This Week", Leaderboard.Window.WEEKLY),
+                createLeaderboardTab("All Time", Leaderboard.Window.ALL_TIME));
+        VBox.setVgrow(windows, javafx.scene.layout.Priority.ALWAYS);
 
         Button backButton = new Button("Back to Main Menu");
         backButton.setOnAction(e -> showMainScreen());
-        backButton.setStyle(
-                "-fx-background-color: #2196F3; " +
-                        "-fx-text-fill: white; " +
-                        "-fx-font-size: 14px; " +
-                        "-fx-padding: 10 20; " +
-                        "-fx-border-radius: 5; " +
-                        "-fx-background-radius: 5;"
-        );
+        backButton.getStyleClass().add("back-button");
+
+        leaderboardLayout.getChildren().addAll(titleLabel, windows, backButton);
+        return leaderboardLayout;
+    }
 
-        scoreboardLayout.getChildren().addAll(titleLabel, statsNode, backButton);
+    private Tab createLeaderboardTab(String title, Leaderboard.Window window) {
+        ListView<String> rows = new ListView<>();
+        rows.setPlaceholder(new Label("No wins yet"));
+        rows.getStyleClass().add("leaderboard-list");
+        leaderboardRows.put(window, rows);
+        return new Tab(title, rows);
+    }
 
-        Scene scoreboardScene = new Scene(scoreboardLayout, 400, 600);
-        primaryStage.setScene(scoreboardScene);
+    private void refreshLeaderboard() {
+        Leaderboard leaderboard = statisticsManager.getLeaderboard();
+        leaderboardRows.forEach((window, rows) -> {
+            List<String> items = new ArrayList<>();
+            int rank = 1;
+            for (Leaderboard.Entry entry : leaderboard.top(window, leaderboard.getCapacity())) {
+                String time = entry.solveNanos() > 0 ? String.format("%.3f s", entry.solveNanos() / 1e9) : "-";
+                items.add(String.format("%3d.  %-10s %4d    %s", rank++, entry.player(), entry.score(), time));
+            }
+            rows.getItems().setAll(items);
+        });
     }
 
     private void showTutorial() {
         tutorialManager.showTutorial();
     }
 
+    @Override
+    public void stop() {
+        StatisticsLog log = statisticsLog;
+        if (log != null) {
+            log.close();
+        }
+        GameRecordWriter records = gameRecords;
+        if (records != null) {
+            try {
+                records.close();
+            } catch (IOException e) {
+                System.err.println("Error saving game history: " + e.getMessage());
+            }
+        }
+        if (wordleGame != null) {
+            try {
+                WordScheduler.save(WordScheduler.defaultPath(), wordleGame.getWordScheduleCursors());
+            } catch (IOException e) {
+                System.err.println("Error saving the word schedule: " + e.getMessage());
+            }
+        }
+        GameMetrics.shutdown();
+        if (flightRecording != null) {
+            flightRecording.stop();  // writes the recording to its destination
+        }
+    }
+
     public void returnToMainScreen() {
-        javafx.application.Platform.runLater(this::showMainScreen);
+        Platform.runLater(this::showMainScreen);
     }
 
     // New method to get HostServices
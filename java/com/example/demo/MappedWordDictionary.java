@@ -0,0 +1,134 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Dictionary answered straight from a memory-mapped file written by DictionaryCompiler.
+// Processes mapping the same file share one copy in the page cache.
+//
+// Layout (big-endian):
+//   header   magic "WDIC", version, word length, flags, word count, section offsets
+//   codes    word count ints, sorted ascending
+//   freqs    word count ints in the same order (only when FLAG_FREQUENCIES is set)
+public class MappedWordDictionary implements WordDictionary {
+    public static final int MAGIC = 0x57444943;  // "WDIC"
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 24;
+    public static final int FLAG_FREQUENCIES = 1;
+
+    private final MappedByteBuffer buffer;
+    private final int wordLength;
+    private final int wordCount;
+    private final int codesOffset;
+    private final int frequenciesOffset;
+
+    private MappedWordDictionary(MappedByteBuffer buffer, int wordLength, int wordCount,
+                                 int codesOffset, int frequenciesOffset) {
+        this.buffer = buffer;
+        this.wordLength = wordLength;
+        this.wordCount = wordCount;
+        this.codesOffset = codesOffset;
+        this.frequenciesOffset = frequenciesOffset;
+    }
+
+    public static MappedWordDictionary open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Not a compiled dictionary: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        }
+        buffer.order(ByteOrder.BIG_ENDIAN);
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a compiled dictionary: " + path);
+        }
+        short version = buffer.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported dictionary version " + version + " in " + path);
+        }
+        int wordLength = buffer.get(6);
+        int flags = buffer.get(7);
+        int wordCount = buffer.getInt(8);
+        int codesOffset = buffer.getInt(12);
+        int frequenciesOffset = (flags & FLAG_FREQUENCIES) != 0 ? buffer.getInt(16) : 0;
+
+        long codesEnd = codesOffset + (long) wordCount * Integer.BYTES;
+        long frequenciesEnd = frequenciesOffset + (long) wordCount * Integer.BYTES;
+        if (wordLength < 1 || wordLength > WordCodec.MAX_LETTERS || wordCount < 0
+                || codesOffset < HEADER_SIZE || codesEnd > buffer.capacity()
+                || (frequenciesOffset != 0 && (frequenciesOffset < codesEnd || frequenciesEnd > buffer.capacity()))) {
+            throw new IOException("Corrupt dictionary header in " + path);
+        }
+        return new MappedWordDictionary(buffer, wordLength, wordCount, codesOffset, frequenciesOffset);
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    public boolean hasFrequencies() {
+        return frequenciesOffset != 0;
+    }
+
+    @Override
+    public int size() {
+        return wordCount;
+    }
+
+    @Override
+    public long footprintBytes() {
+        return buffer.capacity();
+    }
+
+    @Override
+    public long codeAt(int index) {
+        checkIndex(index);
+        return buffer.getInt(codesOffset + index * Integer.BYTES);
+    }
+
+    @Override
+    public boolean contains(long code) {
+        return code >= 0 && indexOf(code) >= 0;
+    }
+
+    // Binary search over the sorted code section
+    @Override
+    public int indexOf(long code) {
+        if (code != (int) code) {
+            return -1;
+        }
+        int low = 0;
+        int high = wordCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midCode = buffer.getInt(codesOffset + mid * Integer.BYTES);
+            if (midCode < code) {
+                low = mid + 1;
+            } else if (midCode > code) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // Relative frequency of the word at index, or 1 when the dictionary was compiled without one
+    public int frequencyAt(int index) {
+        checkIndex(index);
+        return frequenciesOffset != 0 ? buffer.getInt(frequenciesOffset + index * Integer.BYTES) : 1;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= wordCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + wordCount);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Serves a MetricsRegistry in Prometheus text format at /metrics, using the JDK's built-in HTTP
+// server on one daemon thread. Started only when PORT_PROPERTY is set; it listens on loopback
+// unless HOST_PROPERTY names another address (0.0.0.0 for scraping from other machines).
+public class MetricsHttpServer {
+    public static final String PORT_PROPERTY = "wordle.metrics.port";
+    public static final String HOST_PROPERTY = "wordle.metrics.host";
+    public static final String PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private MetricsHttpServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    // Null when PORT_PROPERTY is not set
+    public static MetricsHttpServer startConfigured(MetricsRegistry registry) throws IOException {
+        String port = System.getProperty(PORT_PROPERTY);
+        if (port == null || port.isBlank()) {
+            return null;
+        }
+        String host = System.getProperty(HOST_PROPERTY, "127.0.0.1");
+        try {
+            return start(registry, new InetSocketAddress(host, Integer.parseInt(port.trim())));
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid " + PORT_PROPERTY + ": " + port, e);
+        }
+    }
+
+    public static MetricsHttpServer start(MetricsRegistry registry, InetSocketAddress address) throws IOException {
+        HttpServer server = HttpServer.create(address, 0);
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "wordle-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext(PATH, exchange -> handle(registry, exchange));
+        server.setExecutor(executor);
+        server.start();
+        return new MetricsHttpServer(server, executor);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private static void handle(MetricsRegistry registry, HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET") && !exchange.getRequestMethod().equals("HEAD")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            StringBuilder text = new StringBuilder(4096);
+            registry.writePrometheus(text);
+            byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if (exchange.getRequestMethod().equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
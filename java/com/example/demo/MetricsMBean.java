@@ -0,0 +1,114 @@
+package com.example.demo;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Read-only JMX view of a MetricsRegistry. Every meter becomes one or more attributes named after
+// its id: counters add a ".rate" per second, timers expose count, mean, p50, p99 and max in
+// milliseconds. Attributes are looked up on each request, so meters created later show up too.
+public class MetricsMBean implements DynamicMBean {
+    public static final String OBJECT_NAME = "com.example.demo:type=Metrics";
+
+    private final MetricsRegistry registry;
+
+    public MetricsMBean(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    // Registers with the platform MBean server; does nothing if already registered
+    public static void register(MetricsRegistry registry) throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (!server.isRegistered(name)) {
+            server.registerMBean(new MetricsMBean(registry), name);
+        }
+    }
+
+    private record Source(String type, String description, Supplier<Object> value) {
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        Source source = sources().get(attribute);
+        if (source == null) {
+            throw new AttributeNotFoundException("No metric " + attribute);
+        }
+        return source.value().get();
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] names) {
+        Map<String, Source> sources = sources();
+        AttributeList list = new AttributeList();
+        for (String name : names) {
+            Source source = sources.get(name);
+            if (source != null) {
+                list.add(new Attribute(name, source.value().get()));
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) {
+        throw new UnsupportedOperationException("No operations: " + actionName);
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        List<MBeanAttributeInfo> infos = new ArrayList<>();
+        sources().forEach((name, source) ->
+                infos.add(new MBeanAttributeInfo(name, source.type(), source.description(), true, false, false)));
+        return new MBeanInfo(getClass().getName(), "Wordle operational metrics",
+                infos.toArray(new MBeanAttributeInfo[0]), null, new MBeanOperationInfo[0], null);
+    }
+
+    private Map<String, Source> sources() {
+        String longType = Long.class.getName();
+        String doubleType = Double.class.getName();
+        Map<String, Source> sources = new LinkedHashMap<>();
+        for (MetricsRegistry.Meter meter : registry.getMeters()) {
+            String id = meter.getId();
+            String help = meter.getHelp();
+            if (meter instanceof MetricsRegistry.Counter) {
+                MetricsRegistry.Counter counter = (MetricsRegistry.Counter) meter;
+                sources.put(id, new Source(longType, help, counter::count));
+                sources.put(id + ".rate", new Source(doubleType, help + ", per second", counter::ratePerSecond));
+            } else if (meter instanceof MetricsRegistry.Gauge) {
+                sources.put(id, new Source(doubleType, help, ((MetricsRegistry.Gauge) meter)::value));
+            } else {
+                MetricsRegistry.Timer timer = (MetricsRegistry.Timer) meter;
+                sources.put(id + ".count", new Source(longType, help + ", samples", timer::count));
+                sources.put(id + ".meanMillis", new Source(doubleType, help + ", mean ms", () -> timer.meanNanos() / 1e6));
+                sources.put(id + ".p50Millis", new Source(doubleType, help + ", p50 ms", () -> timer.percentileNanos(50) / 1e6));
+                sources.put(id + ".p99Millis", new Source(doubleType, help + ", p99 ms", () -> timer.percentileNanos(99) / 1e6));
+                sources.put(id + ".maxMillis", new Source(doubleType, help + ", max ms", () -> timer.maxNanos() / 1e6));
+            }
+        }
+        return sources;
+    }
+}
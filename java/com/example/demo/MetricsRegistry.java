@@ -0,0 +1,304 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+// Live operational metrics: counters, gauges and latency timers that any thread can update without
+// locking. Meters are identified by a Prometheus-style name plus optional label pairs and are created
+// on first use; asking again for the same name and labels returns the same meter. The registry is
+// read through MetricsMBean (JMX) and MetricsHttpServer (Prometheus text format).
+public class MetricsRegistry {
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    private final ConcurrentMap<String, Meter> meters = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    public abstract static class Meter {
+        final String name;
+        final String help;
+        final String labels;  // rendered label pairs, e.g. mode="single_player", or ""
+
+        Meter(String name, String help, String labels) {
+            this.name = name;
+            this.help = help;
+            this.labels = labels;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getHelp() {
+            return help;
+        }
+
+        public String getLabels() {
+            return labels;
+        }
+
+        // Name and labels as the meter is keyed and exported, e.g. wordle_games_total{mode="multi_player"}
+        public String getId() {
+            return labels.isEmpty() ? name : name + "{" + labels + "}";
+        }
+    }
+
+    // Monotonic count. ratePerSecond() is the average rate since it was last called, measured over at
+    // least a second, so a scraper polling it gets the rate between its polls.
+    public static final class Counter extends Meter {
+        private static final long MIN_RATE_WINDOW_NANOS = 1_000_000_000L;
+
+        private final LongAdder count = new LongAdder();
+        private final AtomicLong windowStartNanos = new AtomicLong(System.nanoTime());
+        private volatile long windowStartCount;
+        private volatile double lastRate;
+
+        Counter(String name, String help, String labels) {
+            super(name, help, labels);
+        }
+
+        public void increment() {
+            count.increment();
+        }
+
+        public void add(long amount) {
+            count.add(amount);
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public double ratePerSecond() {
+            long now = System.nanoTime();
+            long start = windowStartNanos.get();
+            if (now - start >= MIN_RATE_WINDOW_NANOS && windowStartNanos.compareAndSet(start, now)) {
+                long current = count.sum();
+                lastRate = (current - windowStartCount) * 1e9 / (now - start);
+                windowStartCount = current;
+            }
+            return lastRate;
+        }
+    }
+
+    public static final class Gauge extends Meter {
+        private final DoubleSupplier value;
+
+        Gauge(String name, String help, String labels, DoubleSupplier value) {
+            super(name, help, labels);
+            this.value = value;
+        }
+
+        public double value() {
+            return value.getAsDouble();
+        }
+    }
+
+    // Latency distribution in four buckets per doubling from about a microsecond to half a minute,
+    // so a percentile is at most a quarter above the true value. Counts are cumulative since start.
+    public static final class Timer extends Meter {
+        private static final int MIN_LOG = 10;  // first bucket covers everything below 2^10 ns
+        private static final int MAX_LOG = 35;  // last bucket covers everything from 2^35 ns (34 s)
+        static final int BUCKETS = (MAX_LOG - MIN_LOG) * 4 + 2;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        Timer(String name, String help, String labels) {
+            super(name, help, labels);
+        }
+
+        public void record(long nanos) {
+            buckets.incrementAndGet(bucketOf(nanos));
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long maxNanos() {
+            return maxNanos.get();
+        }
+
+        public double meanNanos() {
+            long samples = count();
+            return samples == 0 ? 0 : (double) totalNanos() / samples;
+        }
+
+        // Upper bound of the bucket holding the given percentile, in (0, 100]; 0 with no samples
+        public long percentileNanos(double percent) {
+            long[] counts = bucketCounts();
+            long total = 0;
+            for (long bucketCount : counts) {
+                total += bucketCount;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(total * percent / 100));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBoundNanos(i), maxNanos());
+                }
+            }
+            return maxNanos();
+        }
+
+        long[] bucketCounts() {
+            long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+            }
+            return counts;
+        }
+
+        static int bucketOf(long nanos) {
+            if (nanos < 1L << MIN_LOG) {
+                return 0;
+            }
+            int log = 63 - Long.numberOfLeadingZeros(nanos);
+            if (log >= MAX_LOG) {
+                return BUCKETS - 1;
+            }
+            int quarter = (int) (nanos >>> (log - 2)) & 3;  // the two bits below the leading one
+            return 1 + (log - MIN_LOG) * 4 + quarter;
+        }
+
+        // Exclusive upper bound of a bucket; Long.MAX_VALUE for the last one
+        static long upperBoundNanos(int bucket) {
+            if (bucket == 0) {
+                return 1L << MIN_LOG;
+            }
+            if (bucket >= BUCKETS - 1) {
+                return Long.MAX_VALUE;
+            }
+            int log = MIN_LOG + (bucket - 1) / 4;
+            int quarter = (bucket - 1) % 4;
+            return (long) (5 + quarter) << (log - 2);
+        }
+    }
+
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) meters.computeIfAbsent(id(name, labels), key -> new Counter(name, help, renderLabels(labels)));
+    }
+
+    public Timer timer(String name, String help, String... labels) {
+        return (Timer) meters.computeIfAbsent(id(name, labels), key -> new Timer(name, help, renderLabels(labels)));
+    }
+
+    // Replaces any gauge already registered under the same name and labels
+    public Gauge gauge(String name, String help, DoubleSupplier value, String... labels) {
+        Gauge gauge = new Gauge(name, help, renderLabels(labels), value);
+        meters.put(id(name, labels), gauge);
+        return gauge;
+    }
+
+    public Meter get(String id) {
+        return meters.get(id);
+    }
+
+    // Sorted by id, so meters with the same name are adjacent
+    public List<Meter> getMeters() {
+        List<Meter> sorted = new ArrayList<>(meters.values());
+        sorted.sort((a, b) -> a.getId().compareTo(b.getId()));
+        return sorted;
+    }
+
+    // Prometheus text exposition format 0.0.4. Timers are exported as histograms in seconds with one
+    // bucket per doubling.
+    public void writePrometheus(Appendable out) throws IOException {
+        String previousName = null;
+        for (Meter meter : getMeters()) {
+            if (!meter.name.equals(previousName)) {
+                String type = meter instanceof Counter ? "counter" : meter instanceof Gauge ? "gauge" : "histogram";
+                out.append("# HELP ").append(meter.name).append(' ').append(meter.help).append('\n');
+                out.append("# TYPE ").append(meter.name).append(' ').append(type).append('\n');
+                previousName = meter.name;
+            }
+            if (meter instanceof Counter) {
+                sample(out, meter.name, meter.labels, ((Counter) meter).count());
+            } else if (meter instanceof Gauge) {
+                sample(out, meter.name, meter.labels, ((Gauge) meter).value());
+            } else {
+                writeHistogram(out, (Timer) meter);
+            }
+        }
+    }
+
+    private static void writeHistogram(Appendable out, Timer timer) throws IOException {
+        long[] counts = timer.bucketCounts();
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            // Buckets 0, 4, 8, ... end on a power of two
+            if (i % 4 == 0 && i < counts.length - 1) {
+                String le = "le=\"" + formatDouble(Timer.upperBoundNanos(i) / 1e9) + "\"";
+                sample(out, timer.name + "_bucket", join(timer.labels, le), cumulative);
+            }
+        }
+        sample(out, timer.name + "_bucket", join(timer.labels, "le=\"+Inf\""), cumulative);
+        sample(out, timer.name + "_sum", timer.labels, timer.totalNanos() / 1e9);
+        sample(out, timer.name + "_count", timer.labels, timer.count());
+    }
+
+    private static void sample(Appendable out, String name, String labels, double value) throws IOException {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(formatDouble(value)).append('\n');
+    }
+
+    private static String formatDouble(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static String join(String labels, String extra) {
+        return labels.isEmpty() ? extra : labels + "," + extra;
+    }
+
+    private static String id(String name, String[] labels) {
+        return labels.length == 0 ? name : name + "{" + renderLabels(labels) + "}";
+    }
+
+    // labels alternate name, value
+    private static String renderLabels(String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs");
+        }
+        StringBuilder rendered = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                rendered.append(',');
+            }
+            rendered.append(labels[i]).append("=\"")
+                    .append(labels[i + 1].replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+                    .append('"');
+        }
+        return rendered.toString();
+    }
+}
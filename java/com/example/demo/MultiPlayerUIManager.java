@@ -1,30 +1,46 @@
 package com.example.demo;
 
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.*;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
 import javafx.scene.text.TextAlignment;
-import javafx.stage.Stage;
+
+import java.util.Arrays;
 
 public class MultiPlayerUIManager extends UIManager {
+    public static final String SCREEN = "multi-player";
+    public static final String END_SCREEN = "multi-player-end";
 
     private MultiplayerRoleManager roleManager;
 
     private Label playerTurnLabel;
     private GridPane wordSetterGrid;
+    private Label[] wordSetterCells;
     private VBox wordGuesserBox;
     private int currentWordSetterCol;
-    private Stage primaryStage;
 
-    public MultiPlayerUIManager(StatisticsManager statisticsManager, WordValidator wordValidator, Stage primaryStage) {
-        super(statisticsManager, wordValidator);
-        this.primaryStage = primaryStage;
+    // Online play: the server owns the game, this side only types and paints
+    private WordleClient client;
+    private boolean networkGuessing;
+    private boolean networkRoundOver;
+    private int networkRow;
+    private final StringBuilder networkGuess = new StringBuilder();
+    // The round as the feedback reports it, so it can be recorded when the server ends it
+    private boolean networkLocalGuesser;
+    private long networkStartMillis;
+    private long networkStartNanos;
+    private long networkLastNanos;
+    private final long[] networkGuessCodes = new long[GameEngine.MAX_ATTEMPTS];
+    private final int[] networkPatterns = new int[GameEngine.MAX_ATTEMPTS];
+    private final int[] networkDeltaMillis = new int[GameEngine.MAX_ATTEMPTS];
+
+    public MultiPlayerUIManager(StatisticsManager statisticsManager, DictionaryRegistry dictionaries, ScreenRegistry screens) {
+        super(statisticsManager, dictionaries, screens);
+        screens.register(SCREEN, this::createMultiPlayerGameLayout, null, true);
+        screens.register(END_SCREEN, this::createEndGameOptions);
     }
 
     @Override
@@ -49,12 +65,173 @@ public class MultiPlayerUIManager extends UIManager {
         return layout;
     }
 
+    // Shows the game board, emptied in place if it was already built
+    public void showGameScreen() {
+        if (screens.isBuilt(SCREEN)) {
+            resetUI();
+        }
+        screens.show(SCREEN);
+    }
+
+    @Override
+    public void showReplay(GameRecord record) {
+        showGameScreen();
+        transitionToGuessingPhase(record.player() == 1);
+        playerTurnLabel.setText("Replay: Player " + record.player() + " guessing");
+    }
+
     public void initializeMultiplayerGame() {
         roleManager.initializeGame();
     }
 
+    public void connectToServer(String host, int port, String room) throws java.io.IOException {
+        client = WordleClient.connect(host, port, new WordleClient.Listener() {
+            @Override
+            public void onMessage(String command, String argument) {
+                Platform.runLater(() -> handleServerMessage(command, argument));
+            }
+
+            @Override
+            public void onDisconnected() {
+                Platform.runLater(() -> handleServerDisconnect());
+            }
+        });
+        wordleGame.resetGameState();
+        playerTurnLabel.setText("Waiting for an opponent in room " + room + "...");
+        wordSetterGrid.setVisible(false);
+        client.send(WordleProtocol.JOIN + " " + room);
+    }
+
+    public void disconnectFromServer() {
+        if (client != null) {
+            WordleClient closing = client;
+            client = null;
+            closing.send(WordleProtocol.QUIT);
+            closing.close();
+        }
+    }
+
+    private void handleServerMessage(String command, String argument) {
+        if (client == null) {
+            return;
+        }
+        switch (command) {
+            case WordleProtocol.ROLE:
+                if (networkRoundOver) {
+                    showGameScreen();
+                }
+                networkRoundOver = false;
+                networkGuessing = false;
+                networkRow = 0;
+                networkGuess.setLength(0);
+                networkLocalGuesser = !argument.equals(WordleProtocol.SETTER);
+                if (!networkLocalGuesser) {
+                    updateUIForNewGame(true);
+                    playerTurnLabel.setText("Your Turn: " + setPrompt());
+                } else {
+                    playerTurnLabel.setText("Waiting for your opponent to set a word...");
+                    wordSetterGrid.setVisible(false);
+                    wordGuesserBox.setVisible(false);
+                }
+                break;
+            case WordleProtocol.WORD_SET:
+                startNetworkRound();
+                playerTurnLabel.setText("Word set! Your opponent is guessing...");
+                wordSetterGrid.setVisible(false);
+                wordGuesserBox.setVisible(true);
+                break;
+            case WordleProtocol.GUESS_NOW:
+                startNetworkRound();
+                networkGuessing = true;
+                transitionToGuessingPhase(true);
+                playerTurnLabel.setText("Your Turn: " + guessPrompt());
+                break;
+            case WordleProtocol.FEEDBACK:
+                showNetworkFeedback(argument);
+                break;
+            case WordleProtocol.WIN:
+            case WordleProtocol.LOSE:
+                networkGuessing = false;
+                networkRoundOver = true;
+                boolean won = command.equals(WordleProtocol.WIN);
+                recordNetworkRound(won, won ? networkGuessCodes[networkRow - 1] : WordCodec.encodeLong(argument));
+                showAlert(won
+                        ? "The word was guessed in " + WordleProtocol.command(argument) + " attempts.\nScore: " + WordleProtocol.argument(argument)
+                        : "Round over. The word was: " + argument + "\nNo points awarded.");
+                showEndGameOptions();
+                break;
+            case WordleProtocol.INVALID:
+                showAlert(argument);
+                if (wordSetterGrid.isVisible()) {
+                    clearWordSetterGrid();
+                    currentWordSetterCol = 0;
+                } else {
+                    clearNetworkGuess();
+                }
+                break;
+            case WordleProtocol.OPPONENT_LEFT:
+                disconnectFromServer();
+                showAlert("Your opponent left the game.");
+                wordleGame.returnToMainScreen();
+                break;
+            case WordleProtocol.ERROR:
+                showAlert(argument);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void handleServerDisconnect() {
+        if (client != null) {
+            client = null;
+            showAlert("Lost connection to the server.");
+            wordleGame.returnToMainScreen();
+        }
+    }
+
+    private void startNetworkRound() {
+        wordleGame.startOnlineRound();
+        networkStartMillis = System.currentTimeMillis();
+        networkStartNanos = System.nanoTime();
+        networkLastNanos = networkStartNanos;
+    }
+
+    private void recordNetworkRound(boolean won, long secretCode) {
+        GameRecord record = new GameRecord(GameOutcome.Mode.MULTI_PLAYER, networkLocalGuesser ? 1 : 2, won, wordLength,
+                secretCode, networkStartMillis, Arrays.copyOf(networkGuessCodes, networkRow),
+                Arrays.copyOf(networkPatterns, networkRow), Arrays.copyOf(networkDeltaMillis, networkRow));
+        wordleGame.finishOnlineRound(record, networkLastNanos - networkStartNanos);
+    }
+
+    private void showNetworkFeedback(String argument) {
+        String[] parts = argument.split(" ");
+        String guess = parts[0];
+        int pattern = Integer.parseInt(parts[1]);
+        int row = Integer.parseInt(parts[2]) - 1;
+        long now = System.nanoTime();
+        networkGuessCodes[row] = WordCodec.encodeLong(guess);
+        networkPatterns[row] = pattern;
+        networkDeltaMillis[row] = (int) Math.min((now - networkLastNanos) / 1_000_000, GameRecordWriter.MAX_DELTA_MILLIS);
+        networkLastNanos = now;
+        for (int i = 0; i < guess.length(); i++) {
+            updateGrid(row, i, String.valueOf(guess.charAt(i)));
+            updateGuessFeedback(row, i, GuessScorer.stateAt(pattern, i));
+        }
+        updateKeyboardFeedback(guess, pattern);
+        networkRow = row + 1;
+        networkGuess.setLength(0);
+    }
+
+    private void clearNetworkGuess() {
+        while (networkGuess.length() > 0) {
+            networkGuess.setLength(networkGuess.length() - 1);
+            updateGrid(networkRow, networkGuess.length(), "");
+        }
+    }
+
     public void updateUIForNewGame(boolean isPlayer1SettingWord) {
-        playerTurnLabel.setText(isPlayer1SettingWord ? "Player 1's Turn: Set a 5-letter word" : "Player 2's Turn: Set a 5-letter word");
+        playerTurnLabel.setText((isPlayer1SettingWord ? "Player 1's Turn: " : "Player 2's Turn: ") + setPrompt());
         wordSetterGrid.setVisible(true);
         wordGuesserBox.setVisible(false);
         currentWordSetterCol = 0;
@@ -67,17 +244,35 @@ public class MultiPlayerUIManager extends UIManager {
     }
 
     public void transitionToGuessingPhase(boolean isPlayer1Guessing) {
-        playerTurnLabel.setText(isPlayer1Guessing ? "Player 1's Turn: Guess the 5-letter word" : "Player 2's Turn: Guess the 5-letter word");
+        playerTurnLabel.setText((isPlayer1Guessing ? "Player 1's Turn: " : "Player 2's Turn: ") + guessPrompt());
         wordSetterGrid.setVisible(false);
         wordGuesserBox.setVisible(true);
         setupKeyboardActions();
     }
 
     private Label createPlayerTurnLabel() {
-        Label label = new Label("Player 1's Turn: Set a 5-letter word");
-        label.setFont(Font.font("Arial", FontWeight.BOLD, 18));
-        label.setTextFill(Color.BLACK);
-        return label;
+        return Styles.styled(new Label("Player 1's Turn: " + setPrompt()), "prompt-label");
+    }
+
+    private String setPrompt() {
+        return "Set a " + wordLength + "-letter word";
+    }
+
+    private String guessPrompt() {
+        return "Guess the " + wordLength + "-letter word";
+    }
+
+    @Override
+    public void setWordLength(int wordLength) {
+        if (wordLength == this.wordLength) {
+            return;
+        }
+        super.setWordLength(wordLength);
+        if (wordSetterGrid != null) {
+            wordSetterGrid.getChildren().clear();
+            createWordSetterCells(wordSetterGrid);
+            currentWordSetterCol = 0;
+        }
     }
 
     private GridPane createWordSetterGrid() {
@@ -85,21 +280,23 @@ public class MultiPlayerUIManager extends UIManager {
         grid.setAlignment(Pos.CENTER);
         grid.setHgap(10);
         grid.setVgap(10);
+        createWordSetterCells(grid);
+        return grid;
+    }
 
-        for (int i = 0; i < 5; i++) {
+    private void createWordSetterCells(GridPane grid) {
+        wordSetterCells = new Label[wordLength];
+        for (int i = 0; i < wordLength; i++) {
             Label cell = createWordSetterCell();
             grid.add(cell, i, 0);
+            wordSetterCells[i] = cell;
         }
-
-        return grid;
     }
 
     private Label createWordSetterCell() {
-        Label cell = new Label("");
-        cell.setMinSize(60, 60);
-        cell.setStyle("-fx-border-color: #d3d6da; -fx-border-width: 2px; -fx-background-color: #ffffff;");
-        cell.setAlignment(Pos.CENTER);
-        cell.setFont(Font.font("Arial", FontWeight.BOLD, 20));
+        Label cell = Styles.styled(new Label(""), "tile");
+        cell.getStyleClass().add("setter-tile");
+        Styles.setState(cell, false, BoardModel.UNSCORED);
         return cell;
     }
 
@@ -128,70 +325,86 @@ public class MultiPlayerUIManager extends UIManager {
     }
 
     private void handleKeyPress(String letter) {
-        if (wordSetterGrid.isVisible()) {
-            if (currentWordSetterCol < 5) {
+        if (client != null && networkGuessing) {
+            if (networkGuess.length() < wordLength && networkRow < GameEngine.MAX_ATTEMPTS) {
+                updateGrid(networkRow, networkGuess.length(), letter);
+                networkGuess.append(letter);
+            }
+        } else if (wordSetterGrid.isVisible()) {
+            if (currentWordSetterCol < wordLength) {
                 updateWordSetterGrid(currentWordSetterCol, letter);
                 currentWordSetterCol++;
             }
-        } else {
+        } else if (client == null) {
             wordleGame.handleKeyPress(letter);
         }
     }
 
     private void handleBackspace() {
-        if (wordSetterGrid.isVisible()) {
+        if (client != null && networkGuessing) {
+            if (networkGuess.length() > 0) {
+                networkGuess.setLength(networkGuess.length() - 1);
+                updateGrid(networkRow, networkGuess.length(), "");
+            }
+        } else if (wordSetterGrid.isVisible()) {
             if (currentWordSetterCol > 0) {
                 currentWordSetterCol--;
                 updateWordSetterGrid(currentWordSetterCol, "");
             }
-        } else {
+        } else if (client == null) {
             wordleGame.handleBackspace();
         }
     }
 
     private void handleEnter() {
-        if (wordSetterGrid.isVisible()) {
+        if (client != null && networkGuessing) {
+            if (networkGuess.length() == wordLength) {
+                client.send(WordleProtocol.GUESS + " " + networkGuess);
+            }
+        } else if (wordSetterGrid.isVisible()) {
             handleWordSubmission();
-        } else {
+        } else if (client == null) {
             wordleGame.processGuess();
         }
     }
 
     private void handleWordSubmission() {
         String secretWord = getWordFromSetterGrid();
-        if (secretWord.length() == 5 && wordValidator.isValidWord(secretWord)) {
+        if (secretWord.length() == wordLength && dictionaries.get(wordLength).isValidWord(secretWord)) {
+            if (client != null) {
+                client.send(WordleProtocol.SET + " " + secretWord);
+                return;
+            }
             roleManager.handleWordSet(secretWord);
         } else {
-            showAlert("Invalid word! Please enter a valid 5-letter word.");
+            showAlert("Invalid word! Please enter a valid " + wordLength + "-letter word.");
             clearWordSetterGrid();
             currentWordSetterCol = 0;
         }
     }
 
     private void updateWordSetterGrid(int col, String letter) {
-        Label cell = (Label) wordSetterGrid.getChildren().get(col);
-        cell.setText(letter);
+        wordSetterCells[col].setText(letter);
+        Styles.setState(wordSetterCells[col], !letter.isEmpty(), BoardModel.UNSCORED);
     }
 
     private String getWordFromSetterGrid() {
         StringBuilder word = new StringBuilder();
-        for (int i = 0; i < 5; i++) {
-            Label cell = (Label) wordSetterGrid.getChildren().get(i);
+        for (Label cell : wordSetterCells) {
             word.append(cell.getText());
         }
         return word.toString();
     }
 
     private void clearWordSetterGrid() {
-        for (int i = 0; i < 5; i++) {
+        for (int i = 0; i < wordSetterCells.length; i++) {
             updateWordSetterGrid(i, "");
         }
     }
 
     public void resetForNewRound(boolean isPlayer1SettingWord) {
-        resetUI();
+        showGameScreen();
         updateUIForNewGame(isPlayer1SettingWord);
-        setupKeyboardActions();
     }
 
     @Override
@@ -201,20 +414,32 @@ public class MultiPlayerUIManager extends UIManager {
     }
 
     public void showEndGameOptions() {
+        screens.show(END_SCREEN);
+    }
+
+    private VBox createEndGameOptions() {
         VBox optionsBox = new VBox(20);
         optionsBox.setAlignment(Pos.CENTER);
-        optionsBox.setStyle("-fx-padding: 20; -fx-background-color: #f5f5f5;");
+        optionsBox.getStyleClass().add("menu-screen");
 
-        Label promptLabel = new Label("Round Over! Would you like to switch roles or return to the main menu?");
-        promptLabel.setFont(Font.font("Arial", FontWeight.BOLD, 18));
+        Label promptLabel = Styles.styled(new Label("Round Over! Would you like to switch roles or return to the main menu?"), "prompt-label");
         promptLabel.setTextAlignment(TextAlignment.CENTER);
         promptLabel.setWrapText(true);
 
         Button switchRolesButton = createStyledButton("Switch Roles");
         Button mainMenuButton = createStyledButton("Main Menu");
 
-        switchRolesButton.setOnAction(e -> wordleGame.switchRolesMultiplayer());
-        mainMenuButton.setOnAction(e -> wordleGame.returnToMainScreen());
+        switchRolesButton.setOnAction(e -> {
+            if (client != null) {
+                client.send(WordleProtocol.NEXT);
+            } else {
+                wordleGame.switchRolesMultiplayer();
+            }
+        });
+        mainMenuButton.setOnAction(e -> {
+            disconnectFromServer();
+            wordleGame.returnToMainScreen();
+        });
 
         HBox buttonBox = new HBox(20);
         buttonBox.setAlignment(Pos.CENTER);
@@ -222,62 +447,21 @@ public class MultiPlayerUIManager extends UIManager {
         buttonBox.setPadding(new Insets(20, 0, 0, 0));
 
         optionsBox.getChildren().addAll(promptLabel, buttonBox);
-
-        Scene endGameScene = new Scene(optionsBox, 500, 800);
-        primaryStage.setScene(endGameScene);
-        primaryStage.show();
+        return optionsBox;
     }
 
     private Button createStyledButton(String text) {
         Button button = new Button(text);
-        button.setStyle(
-                "-fx-background-color: #0095ff; " +
-                        "-fx-border-color: transparent; " +
-                        "-fx-border-width: 1px; " +
-                        "-fx-border-radius: 3px; " +
-                        "-fx-background-radius: 3px; " +
-                        "-fx-effect: innershadow(one-pass-box, rgba(255, 255, 255, 0.4), 0, 0, 0, 1); " +
-                        "-fx-text-fill: #fff; " +
-                        "-fx-font-family: -apple-system, system-ui, 'Segoe UI', 'Liberation Sans', sans-serif; " +
-                        "-fx-font-size: 13px; " +
-                        "-fx-font-weight: 400; " +
-                        "-fx-padding: 8px 0.8em; " +
-                        "-fx-cursor: hand; " +
-                        "-fx-alignment: center; "
-        );
+        button.getStyleClass().add("action-button");
         return button;
     }
 
     @Override
     protected void resetUI() {
         super.resetUI();
-
-        VBox newRoot = new VBox(20);
-        newRoot.setAlignment(Pos.CENTER);
-        newRoot.setStyle("-fx-padding: 20; -fx-background-color: #f5f5f5;");
-
-        Label titleLabel = new Label("WORDLE WITH FRIENDS");
-        titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 36));
-        titleLabel.setTextFill(Color.BLACK);
-
-        playerTurnLabel = createPlayerTurnLabel();
-        wordSetterGrid = createWordSetterGrid();
-        wordGuesserBox = createWordGuesserBox();
+        wordSetterGrid.setVisible(true);
         wordGuesserBox.setVisible(false);
-
-        newRoot.getChildren().addAll(titleLabel, playerTurnLabel, wordSetterGrid, wordGuesserBox);
-
-        // Remove statsLabel from the UI
-        if (newRoot.getChildren().contains(statsLabel)) {
-            newRoot.getChildren().remove(statsLabel);
-        }
-
-        this.root = newRoot;
-
-        Scene scene = new Scene(root, 500, 800);
-        primaryStage.setScene(scene);
-        primaryStage.show();
-
-        setupKeyboardActions();
+        clearWordSetterGrid();
+        currentWordSetterCol = 0;
     }
-}
\ No newline at end of file
+}
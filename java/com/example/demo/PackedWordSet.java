@@ -0,0 +1,121 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+// Open-addressing set of packed int word codes (see WordCodec), for words of up to
+// WordCodec.MAX_LETTERS letters, with a dense array of the same codes in insertion order, so
+// lookups and random selection never touch a boxed String. The hash table holds indices into the
+// dense array rather than the codes themselves. LongWordSet is the same for longer words.
+public class PackedWordSet implements WordDictionary {
+    private static final int EMPTY = -1;
+
+    private int[] table;
+    private int mask;
+    private int[] codes;
+    private int size;
+
+    public PackedWordSet(int expectedSize) {
+        int capacity = tableCapacityFor(Math.max(expectedSize, 16));
+        table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        mask = capacity - 1;
+        codes = new int[Math.max(expectedSize, 16)];
+    }
+
+    public boolean add(int code) {
+        if (code < 0) {
+            return false;
+        }
+        int slot = slot(code, mask);
+        while (table[slot] != EMPTY) {
+            if (codes[table[slot]] == code) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = size;
+
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size * 2);
+        }
+        codes[size++] = code;
+
+        // Keep the load factor at or below 0.5 so probe chains stay short
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(long code) {
+        return indexOf(code) >= 0;
+    }
+
+    @Override
+    public int indexOf(long code) {
+        return code == (int) code ? indexOf((int) code) : -1;
+    }
+
+    public int indexOf(int code) {
+        if (code < 0) {
+            return -1;
+        }
+        int slot = slot(code, mask);
+        int entry;
+        while ((entry = table[slot]) != EMPTY) {
+            if (codes[entry] == code) {
+                return entry;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long codeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return codes[index];
+    }
+
+    @Override
+    public long footprintBytes() {
+        return (long) (table.length + codes.length) * Integer.BYTES;
+    }
+
+    // Drops the slack left over from growing the dense array while loading
+    public void trimToSize() {
+        if (codes.length != size) {
+            codes = Arrays.copyOf(codes, size);
+        }
+    }
+
+    private void rehash(int capacity) {
+        table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        mask = capacity - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = slot(codes[i], mask);
+            while (table[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i;
+        }
+    }
+
+    private static int slot(int code, int mask) {
+        int hash = code * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static int tableCapacityFor(int expectedSize) {
+        return Integer.highestOneBit(expectedSize * 4 - 1);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.demo;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.Region;
+import javafx.stage.Stage;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Every screen of the app lives in one long-lived Scene; showing a screen swaps the scene's root.
+// Screens are built on first use and kept. Pinned screens (the menu and the game boards, which
+// are reset in place between games) are never dropped; the others are dropped least recently
+// shown first once the built screens add up to more scene-graph nodes than the budget, and are
+// rebuilt the next time they are shown. All methods must be called on the FX thread.
+public class ScreenRegistry {
+    public static final double DEFAULT_WIDTH = 500;
+    public static final double DEFAULT_HEIGHT = 800;
+    public static final int DEFAULT_NODE_BUDGET = 2000;
+
+    private final Stage stage;
+    private final Scene scene;
+    private final int nodeBudget;
+    private final Map<String, Screen> screens = new HashMap<>();
+    private final LinkedHashMap<String, Screen> built = new LinkedHashMap<>(16, 0.75f, true);  // least recently shown first
+    private int builtNodes;
+    private String current;
+
+    private static final class Screen {
+        final String name;
+        final Supplier<? extends Parent> factory;
+        final Consumer<Parent> onShow;
+        final boolean pinned;
+        Parent root;
+        int nodeCount;
+
+        Screen(String name, Supplier<? extends Parent> factory, Consumer<Parent> onShow, boolean pinned) {
+            this.name = name;
+            this.factory = factory;
+            this.onShow = onShow;
+            this.pinned = pinned;
+        }
+    }
+
+    public ScreenRegistry(Stage stage) {
+        this(stage, DEFAULT_NODE_BUDGET);
+    }
+
+    public ScreenRegistry(Stage stage, int nodeBudget) {
+        this.stage = stage;
+        this.nodeBudget = nodeBudget;
+        this.scene = new Scene(new Region(), DEFAULT_WIDTH, DEFAULT_HEIGHT);
+        scene.getStylesheets().add(Styles.STYLESHEET);
+        stage.setScene(scene);
+    }
+
+    public Scene getScene() {
+        return scene;
+    }
+
+    public String getCurrent() {
+        return current;
+    }
+
+    // A screen that may be dropped under memory pressure and rebuilt later
+    public void register(String name, Supplier<? extends Parent> factory) {
+        register(name, factory, null, false);
+    }
+
+    // onShow, if given, runs every time the screen is shown, to refresh it in place
+    public void register(String name, Supplier<? extends Parent> factory, Consumer<Parent> onShow, boolean pinned) {
+        if (screens.containsKey(name)) {
+            throw new IllegalStateException("Screen already registered: " + name);
+        }
+        screens.put(name, new Screen(name, factory, onShow, pinned));
+    }
+
+    public boolean isBuilt(String name) {
+        Screen screen = screens.get(name);
+        return screen != null && screen.root != null;
+    }
+
+    // Builds the screen if needed without showing it
+    public Parent get(String name) {
+        Screen screen = screen(name);
+        if (screen.root == null) {
+            screen.root = screen.factory.get();
+            screen.nodeCount = countNodes(screen.root);
+            builtNodes += screen.nodeCount;
+            built.put(name, screen);
+            trim(name);
+        }
+        return screen.root;
+    }
+
+    public Parent show(String name) {
+        WordleEvents.ScreenSwitch event = new WordleEvents.ScreenSwitch();
+        event.begin();
+        boolean wasBuilt = isBuilt(name);
+        Parent root = get(name);
+        Screen screen = built.get(name);  // marks it most recently used
+        if (screen.onShow != null) {
+            screen.onShow.accept(root);
+        }
+        current = name;
+        boolean swapped = scene.getRoot() != root;
+        if (swapped) {
+            scene.setRoot(root);
+        }
+        stage.show();
+        if (swapped) {
+            fitToRoot(root);
+        }
+        root.requestFocus();
+        if (event.shouldCommit()) {
+            event.screen = name;
+            event.built = !wasBuilt;
+            event.commit();
+        }
+        return root;
+    }
+
+    // Drops a built screen so the next show rebuilds it
+    public void invalidate(String name) {
+        Screen screen = screen(name);
+        if (screen.root != null && !name.equals(current)) {
+            drop(screen);
+        }
+    }
+
+    private Screen screen(String name) {
+        Screen screen = screens.get(name);
+        if (screen == null) {
+            throw new IllegalArgumentException("Unknown screen: " + name);
+        }
+        return screen;
+    }
+
+    private void trim(String keep) {
+        Iterator<Screen> oldest = built.values().iterator();
+        while (builtNodes > nodeBudget && oldest.hasNext()) {
+            Screen screen = oldest.next();
+            if (!screen.pinned && !screen.name.equals(keep) && !screen.name.equals(current)) {
+                oldest.remove();
+                screen.root = null;
+                builtNodes -= screen.nodeCount;
+            }
+        }
+    }
+
+    private void drop(Screen screen) {
+        built.remove(screen.name);
+        screen.root = null;
+        builtNodes -= screen.nodeCount;
+    }
+
+    // Grows the window if the new root does not fit; it never shrinks under the user
+    private void fitToRoot(Parent root) {
+        root.applyCss();
+        double width = root.prefWidth(-1);
+        double height = root.prefHeight(width);
+        if (width > scene.getWidth()) {
+            stage.setWidth(stage.getWidth() + width - scene.getWidth());
+        }
+        if (height > scene.getHeight()) {
+            stage.setHeight(stage.getHeight() + height - scene.getHeight());
+        }
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
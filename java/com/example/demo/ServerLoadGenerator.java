@@ -0,0 +1,264 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+// Drives a WordleServer with pairs of bots sharing one selector thread: in every room one bot sets
+// a random word and the other guesses the first remaining candidate, and the pair switches roles
+// for the requested number of rounds. Without a host an embedded server is started on a loopback
+// ephemeral port, so server and bots share the machine.
+//
+// Usage: java com.example.demo.ServerLoadGenerator [rooms] [rounds per room] [host] [port]
+public class ServerLoadGenerator {
+    private final WordValidator wordValidator;
+    private final int roundsPerRoom;
+    private final Selector selector;
+    private int openBots;
+    private long roundsCompleted;
+    private long guesses;
+    private long totalGuessLatencyNanos;
+    private long maxGuessLatencyNanos;
+
+    private ServerLoadGenerator(WordValidator wordValidator, int roundsPerRoom) throws IOException {
+        this.wordValidator = wordValidator;
+        this.roundsPerRoom = roundsPerRoom;
+        this.selector = Selector.open();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int rooms = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        WordValidator wordValidator = new WordValidator();
+
+        WordleServer server = null;
+        InetSocketAddress address;
+        if (args.length > 2) {
+            int port = args.length > 3 ? Integer.parseInt(args[3]) : WordleProtocol.DEFAULT_PORT;
+            address = new InetSocketAddress(args[2], port);
+        } else {
+            server = new WordleServer(wordValidator, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            server.start();
+            address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+        }
+
+        ServerLoadGenerator generator = new ServerLoadGenerator(wordValidator, rounds);
+        try {
+            generator.run(address, rooms);
+        } finally {
+            if (server != null) {
+                server.stop();
+            }
+        }
+    }
+
+    private void run(InetSocketAddress address, int rooms) throws IOException {
+        long start = System.nanoTime();
+        for (int room = 0; room < rooms; room++) {
+            for (int player = 1; player <= 2; player++) {
+                SocketChannel channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                Bot bot = new Bot(channel, "load-" + room, player);
+                bot.key = channel.register(selector, SelectionKey.OP_CONNECT, bot);
+                openBots++;
+                if (channel.connect(address)) {
+                    bot.connected();
+                }
+            }
+        }
+
+        while (openBots > 0) {
+            selector.select();
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                Bot bot = (Bot) key.attachment();
+                if (!key.isValid()) {
+                    continue;
+                }
+                if (key.isConnectable()) {
+                    try {
+                        bot.channel.finishConnect();
+                    } catch (IOException e) {
+                        System.err.println("Connection failed: " + e.getMessage());
+                        bot.close();
+                        continue;
+                    }
+                    bot.connected();
+                    continue;
+                }
+                if (key.isReadable()) {
+                    bot.read();
+                }
+                if (!bot.closed && key.isValid() && key.isWritable()) {
+                    bot.flush();
+                }
+            }
+        }
+        selector.close();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Connections:     %d%n", rooms * 2);
+        System.out.printf("Rounds:          %d (%.0f rounds/s)%n", roundsCompleted, roundsCompleted / seconds);
+        System.out.printf("Guesses:         %d (%.0f guesses/s)%n", guesses, guesses / seconds);
+        System.out.printf("Guess latency:   %.1f us average, %.1f us max%n",
+                guesses > 0 ? totalGuessLatencyNanos / 1e3 / guesses : 0, maxGuessLatencyNanos / 1e3);
+        System.out.printf("Elapsed:         %.2f s%n", seconds);
+    }
+
+    private class Bot {
+        final SocketChannel channel;
+        final String room;
+        final int player;
+        final ByteBuffer input = ByteBuffer.allocate(WordleProtocol.MAX_LINE_LENGTH * 8);
+        final ByteBuffer output = ByteBuffer.allocate(WordleProtocol.MAX_LINE_LENGTH * 4);
+        final CandidateSet candidates = wordValidator.getCandidateIndex().newCandidateSet();
+        SelectionKey key;
+        int rounds;
+        long guessSentAt;
+        boolean closed;
+
+        Bot(SocketChannel channel, String room, int player) {
+            this.channel = channel;
+            this.room = room;
+            this.player = player;
+        }
+
+        void connected() {
+            key.interestOps(SelectionKey.OP_READ);
+            send(WordleProtocol.JOIN + " " + room);
+        }
+
+        void read() {
+            int read;
+            try {
+                read = channel.read(input);
+            } catch (IOException e) {
+                close();
+                return;
+            }
+            if (read < 0) {
+                close();
+                return;
+            }
+            int lineStart = 0;
+            for (int i = 0; i < input.position() && !closed; i++) {
+                if (input.get(i) == '\n') {
+                    String line = new String(input.array(), lineStart, i - lineStart, StandardCharsets.US_ASCII);
+                    lineStart = i + 1;
+                    handle(WordleProtocol.command(line), WordleProtocol.argument(line));
+                }
+            }
+            input.limit(input.position()).position(lineStart);
+            input.compact();
+        }
+
+        void handle(String command, String argument) {
+            switch (command) {
+                case WordleProtocol.ROLE:
+                    if (argument.equals(WordleProtocol.SETTER)) {
+                        send(WordleProtocol.SET + " " + wordValidator.getRandomWord());
+                    } else {
+                        candidates.reset();
+                    }
+                    break;
+                case WordleProtocol.GUESS_NOW:
+                    guessNext();
+                    break;
+                case WordleProtocol.FEEDBACK:
+                    if (guessSentAt != 0) {
+                        long latency = System.nanoTime() - guessSentAt;
+                        guessSentAt = 0;
+                        guesses++;
+                        totalGuessLatencyNanos += latency;
+                        maxGuessLatencyNanos = Math.max(maxGuessLatencyNanos, latency);
+
+                        String[] parts = argument.split(" ");
+                        int pattern = Integer.parseInt(parts[1]);
+                        int attempt = Integer.parseInt(parts[2]);
+                        candidates.apply(WordCodec.encode(parts[0]), pattern);
+                        if (!GuessScorer.isSolved(pattern, wordValidator.getWordLength()) && attempt < GameEngine.MAX_ATTEMPTS) {
+                            guessNext();
+                        }
+                    }
+                    break;
+                case WordleProtocol.WIN:
+                case WordleProtocol.LOSE:
+                    rounds++;
+                    if (player == 1) {
+                        roundsCompleted++;
+                        if (rounds < roundsPerRoom) {
+                            send(WordleProtocol.NEXT);
+                        } else {
+                            send(WordleProtocol.QUIT);
+                        }
+                    }
+                    break;
+                case WordleProtocol.OPPONENT_LEFT:
+                    close();
+                    break;
+                case WordleProtocol.INVALID:
+                case WordleProtocol.ERROR:
+                    System.err.println(room + " player " + player + ": " + command + " " + argument);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        void guessNext() {
+            int candidate = candidates.nextCandidate(0);
+            if (candidate < 0) {
+                return;
+            }
+            guessSentAt = System.nanoTime();
+            send(WordleProtocol.GUESS + " " + wordValidator.getWord(candidate));
+        }
+
+        void send(String line) {
+            for (int i = 0; i < line.length(); i++) {
+                output.put((byte) line.charAt(i));
+            }
+            output.put((byte) '\n');
+            flush();
+        }
+
+        void flush() {
+            output.flip();
+            try {
+                channel.write(output);
+            } catch (IOException e) {
+                output.compact();
+                close();
+                return;
+            }
+            output.compact();
+            if (key.isValid()) {
+                key.interestOps(output.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            openBots--;
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Already gone
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo;
+
+// Totals from a SimulationRunner batch, in the same terms as the single-player statistics
+public record SimulationReport(String strategy, long gamesPlayed, long wins, long losses, long totalGuessesForWins,
+                               long totalScore, long[] guessDistribution, long elapsedNanos) {
+
+    public double gamesPerSecond() {
+        return elapsedNanos > 0 ? gamesPlayed / (elapsedNanos / 1e9) : 0;
+    }
+
+    public double winRate() {
+        return gamesPlayed > 0 ? (double) wins / gamesPlayed * 100 : 0;
+    }
+
+    public double averageGuessesPerWin() {
+        return wins > 0 ? (double) totalGuessesForWins / wins : 0;
+    }
+
+    public double averageScore() {
+        return gamesPlayed > 0 ? (double) totalScore / gamesPlayed : 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder distribution = new StringBuilder();
+        for (int attempts = 1; attempts <= guessDistribution.length; attempts++) {
+            distribution.append(String.format("  %d: %d%n", attempts, guessDistribution[attempts - 1]));
+        }
+        return String.format(
+                "Strategy: %s\n" +
+                        "Games Played: %d\n" +
+                        "Wins: %d\n" +
+                        "Losses: %d\n" +
+                        "\n" +
+                        "Win Rate: %.2f%%\n" +
+                        "\n" +
+                        "Average Guesses per Win: %.2f\n" +
+                        "Average Score: %.2f\n" +
+                        "Total Score: %d\n" +
+                        "\n" +
+                        "Guesses per Win:\n%s" +
+                        "\n" +
+                        "Games per Second: %.0f",
+                strategy, gamesPlayed, wins, losses, winRate(), averageGuessesPerWin(), averageScore(), totalScore,
+                distribution, gamesPerSecond()
+        );
+    }
+}
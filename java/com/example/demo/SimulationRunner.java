@@ -0,0 +1,126 @@
+package com.example.demo;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+// Plays automated games on every core with a pluggable BotStrategy. Work is split with fork-join;
+// each task owns a SplittableRandom split from its parent, keeps its totals in locals and adds them
+// to LongAdders once at the end, so threads never contend while playing.
+//
+// Usage: java com.example.demo.SimulationRunner [games] [strategy: random|first|entropy] [threads] [seed]
+//   -Dwordle.feedback.file=<file> lets the entropy bot read patterns from a FeedbackMatrix kept there
+public class SimulationRunner {
+    private static final int GAMES_PER_TASK = 512;
+
+    private final WordValidator wordValidator;
+    private final GameEngine engine;
+    private final BotStrategy strategy;
+    private final String strategyName;
+
+    private final LongAdder gamesPlayed = new LongAdder();
+    private final LongAdder wins = new LongAdder();
+    private final LongAdder losses = new LongAdder();
+    private final LongAdder totalGuessesForWins = new LongAdder();
+    private final LongAdder totalScore = new LongAdder();
+    private final LongAdder[] guessDistribution = new LongAdder[GameEngine.MAX_ATTEMPTS];
+
+    public SimulationRunner(WordValidator wordValidator, BotStrategy strategy, String strategyName) {
+        this.wordValidator = wordValidator;
+        this.engine = new GameEngine(wordValidator);
+        this.strategy = strategy;
+        this.strategyName = strategyName;
+        for (int i = 0; i < guessDistribution.length; i++) {
+            guessDistribution[i] = new LongAdder();
+        }
+    }
+
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        String strategyName = args.length > 1 ? args[1] : "random";
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        WordValidator wordValidator = new WordValidator();
+        SimulationRunner runner = new SimulationRunner(wordValidator, BotStrategy.named(strategyName, wordValidator), strategyName);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            System.out.println(runner.run(games, seed, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Totals accumulate across runs on the same runner
+    public SimulationReport run(long games, long seed, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        pool.invoke(new PlayGamesTask(games, new SplittableRandom(seed)));
+        return report(System.nanoTime() - start);
+    }
+
+    private SimulationReport report(long elapsedNanos) {
+        long[] distribution = new long[guessDistribution.length];
+        for (int i = 0; i < distribution.length; i++) {
+            distribution[i] = guessDistribution[i].sum();
+        }
+        return new SimulationReport(strategyName, gamesPlayed.sum(), wins.sum(), losses.sum(),
+                totalGuessesForWins.sum(), totalScore.sum(), distribution, elapsedNanos);
+    }
+
+    private class PlayGamesTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long games;
+        private final SplittableRandom random;
+
+        PlayGamesTask(long games, SplittableRandom random) {
+            this.games = games;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (games > GAMES_PER_TASK) {
+                long half = games / 2;
+                invokeAll(new PlayGamesTask(half, random.split()), new PlayGamesTask(games - half, random.split()));
+                return;
+            }
+
+            long localWins = 0;
+            long localLosses = 0;
+            long localGuesses = 0;
+            long localScore = 0;
+            long[] localDistribution = new long[guessDistribution.length];
+            int wordCount = wordValidator.getWordCount();
+            for (long game = 0; game < games; game++) {
+                GameState state = engine.newGame(wordValidator.getWord(random.nextInt(wordCount)));
+                while (!state.isCompleted()) {
+                    GuessResult result = engine.submitGuess(state, strategy.nextGuess(state, wordValidator, random));
+                    if (!result.isScored()) {
+                        throw new IllegalStateException("Bot " + strategyName + " made an invalid guess: " + result.guess());
+                    }
+                }
+                if (state.isWon()) {
+                    localWins++;
+                    localGuesses += state.getAttempts();
+                    localScore += state.getScore();
+                    localDistribution[state.getAttempts() - 1]++;
+                } else {
+                    localLosses++;
+                }
+            }
+
+            gamesPlayed.add(games);
+            wins.add(localWins);
+            losses.add(localLosses);
+            totalGuessesForWins.add(localGuesses);
+            totalScore.add(localScore);
+            for (int i = 0; i < localDistribution.length; i++) {
+                if (localDistribution[i] != 0) {
+                    guessDistribution[i].add(localDistribution[i]);
+                }
+            }
+        }
+    }
+}
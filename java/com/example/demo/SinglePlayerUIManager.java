@@ -1,18 +1,43 @@
 package com.example.demo;
 
+import javafx.application.Platform;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.input.KeyCode;
 import javafx.scene.control.Label;
 import javafx.scene.control.Button;
-import javafx.scene.text.Font;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 public class SinglePlayerUIManager extends UIManager {
+    public static final String SCREEN = "single-player";
+    public static final String END_SCREEN = "single-player-end";
+    private static final int HINT_COUNT = 5;
+
+    private final Map<Integer, WordleSolver> solvers = new HashMap<>();  // by word length, FX thread only
+    private Button hintButton;
+
+    public SinglePlayerUIManager(StatisticsManager statisticsManager, DictionaryRegistry dictionaries, ScreenRegistry screens) {
+        super(statisticsManager, dictionaries, screens);
+        screens.register(SCREEN, this::createSinglePlayerGameLayout, null, true);
+        screens.register(END_SCREEN, this::createEndGameOptions);
+    }
 
-    public SinglePlayerUIManager(StatisticsManager statisticsManager, WordValidator wordValidator) {
-        super(statisticsManager, wordValidator);
+    // Shows the game board, emptied in place if it was already built
+    public void showGameScreen() {
+        if (screens.isBuilt(SCREEN)) {
+            resetUI();
+        }
+        screens.show(SCREEN);
+    }
+
+    @Override
+    public void showReplay(GameRecord record) {
+        showGameScreen();
     }
 
     public VBox createSinglePlayerGameLayout() {
@@ -20,14 +45,34 @@ public class SinglePlayerUIManager extends UIManager {
 
         initializeGridPane();
         initializeKeyboard();
+        hintButton = createHintButton();
+        solverFor(wordLength);
 
-        layout.getChildren().addAll(gridPane, keyboardLayout, statsLabel);
+        layout.getChildren().addAll(gridPane, keyboardLayout, hintButton, statsLabel);
 
         setupKeyboardActions();
 
         return layout;
     }
 
+    @Override
+    public void setWordLength(int wordLength) {
+        super.setWordLength(wordLength);
+        if (screens.isBuilt(SCREEN)) {
+            solverFor(wordLength);
+        }
+    }
+
+    private WordleSolver solverFor(int wordLength) {
+        WordleSolver solver = solvers.get(wordLength);
+        if (solver == null) {
+            solver = new WordleSolver(dictionaries.get(wordLength));
+            CompletableFuture.runAsync(solver::prewarm);  // Cache the opening ranking before the first hint
+            solvers.put(wordLength, solver);
+        }
+        return solver;
+    }
+
     private void setupKeyboardActions() {
         root.setOnKeyPressed(event -> {
             if (event.getCode().isLetterKey()) {
@@ -41,6 +86,49 @@ public class SinglePlayerUIManager extends UIManager {
         root.requestFocus();
     }
 
+    private Button createHintButton() {
+        Button button = new Button("Hint");
+        button.setFocusTraversable(false);
+        button.getStyleClass().add("secondary-button");
+        button.setOnAction(e -> showHint());
+        return button;
+    }
+
+    private void showHint() {
+        if (wordleGame.isGameCompleted()) {
+            return;
+        }
+        hintButton.setDisable(true);
+
+        // Rank on a background thread so the FX thread never waits on the solver
+        long[] guessCodes = wordleGame.getGuessCodes();
+        int[] patterns = wordleGame.getGuessPatterns();
+        HardModeConstraints hardMode = wordleGame.getState().getHardModeConstraints();
+        HardModeConstraints constraints = hardMode != null ? hardMode.copy() : null;
+        WordleSolver solver = solverFor(wordLength);
+        CompletableFuture.supplyAsync(() -> solver.suggest(guessCodes, patterns, HINT_COUNT, constraints))
+                .whenComplete((result, error) -> Platform.runLater(() -> {
+                    hintButton.setDisable(false);
+                    root.requestFocus();
+                    if (error != null) {
+                        System.err.println("Error computing hint: " + error.getMessage());
+                    } else {
+                        showAlert(formatHint(result));
+                    }
+                }));
+    }
+
+    private String formatHint(WordleSolver.SolverResult result) {
+        StringBuilder message = new StringBuilder();
+        message.append(result.remainingCandidates()).append(result.remainingCandidates() == 1 ? " word remains." : " words remain.");
+        message.append("\n\nSuggested guesses:");
+        for (WordleSolver.Suggestion suggestion : result.suggestions()) {
+            message.append(String.format("\n%s  (%.2f bits)%s", suggestion.word(), suggestion.expectedInformation(),
+                    suggestion.possibleAnswer() ? "" : " - not a possible answer"));
+        }
+        return message.toString();
+    }
+
     @Override
     public void endGame() {
         super.endGame();
@@ -48,35 +136,23 @@ public class SinglePlayerUIManager extends UIManager {
     }
 
     private void showEndGameOptions() {
+        screens.show(END_SCREEN);
+    }
+
+    private VBox createEndGameOptions() {
         VBox optionsBox = new VBox(20);  // Increased spacing between elements
         optionsBox.setAlignment(Pos.CENTER);
+        optionsBox.getStyleClass().add("game-screen");
 
-        Label promptLabel = new Label("Would you like to play again or return to the main menu?");
-        promptLabel.setFont(new Font("Arial", 18));
+        Label promptLabel = Styles.styled(new Label("Would you like to play again or return to the main menu?"), "message-label");
         promptLabel.setWrapText(true);  // Allow text wrapping
         promptLabel.setTextAlignment(javafx.scene.text.TextAlignment.CENTER);
 
         Button playAgainButton = new Button("Play Again");
         Button mainMenuButton = new Button("Main Menu");
 
-        // Apply the same style to both buttons
-        String buttonStyle =
-                "-fx-background-color: #0095ff; " +
-                        "-fx-border-color: transparent; " +
-                        "-fx-border-width: 1px; " +
-                        "-fx-border-radius: 3px; " +
-                        "-fx-background-radius: 3px; " +
-                        "-fx-effect: innershadow(one-pass-box, rgba(255, 255, 255, 0.4), 0, 0, 0, 1); " +
-                        "-fx-text-fill: #fff; " +
-                        "-fx-font-family: -apple-system, system-ui, 'Segoe UI', 'Liberation Sans', sans-serif; " +
-                        "-fx-font-size: 13px; " +
-                        "-fx-font-weight: 400; " +
-                        "-fx-padding: 8px 0.8em; " +
-                        "-fx-cursor: hand; " +
-                        "-fx-alignment: center; ";
-
-        playAgainButton.setStyle(buttonStyle);
-        mainMenuButton.setStyle(buttonStyle);
+        playAgainButton.getStyleClass().add("action-button");
+        mainMenuButton.getStyleClass().add("action-button");
 
         playAgainButton.setOnAction(e -> playAgain());
         mainMenuButton.setOnAction(e -> returnToMainMenu());
@@ -90,36 +166,15 @@ public class SinglePlayerUIManager extends UIManager {
         buttonBox.setPadding(new Insets(20, 0, 0, 0));
 
         optionsBox.getChildren().addAll(promptLabel, buttonBox);
-
-        root.getChildren().clear();
-        root.getChildren().add(optionsBox);
+        return optionsBox;
     }
 
     private void playAgain() {
-        resetUI();
+        showGameScreen();
         wordleGame.startNewSinglePlayerGame();
-        setupKeyboardActions();
-        root.requestFocus();
     }
 
     private void returnToMainMenu() {
         wordleGame.returnToMainScreen();
     }
-
-    @Override
-    protected void resetUI() {
-        super.resetUI(); // Call the parent class's resetUI method
-
-        // Clear existing children
-        root.getChildren().clear();
-
-        // Recreate and add the components
-        Label titleLabel = new Label("WORDLE");
-        titleLabel.setFont(new Font("Arial Black", 36));
-        root.getChildren().addAll(titleLabel, gridPane, keyboardLayout, statsLabel);
-
-        // Ensure the statsLabel is properly managed
-        statsLabel.setVisible(true);
-        statsLabel.setManaged(true);
-    }
-}
\ No newline at end of file
+}
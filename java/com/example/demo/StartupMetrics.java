@@ -0,0 +1,98 @@
+package com.example.demo;
+
+import javafx.animation.AnimationTimer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Startup milestones, measured from the start of the JVM process when the OS reports it (otherwise
+// from when this object is created). First frame is the first pulse after the main menu is shown;
+// interactive is when the game modes are enabled. Named stages record how long each background
+// step took, so startup regressions can be traced to the step that grew. commitEvents() reports
+// them all to Flight Recorder.
+public class StartupMetrics {
+    private static final long NOT_REACHED = -1;
+
+    private final long originNanos;
+    private volatile long firstFrameNanos = NOT_REACHED;
+    private volatile long interactiveNanos = NOT_REACHED;
+    private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+
+    public StartupMetrics() {
+        long now = System.nanoTime();
+        this.originNanos = ProcessHandle.current().info().startInstant()
+                .map(start -> now - Duration.between(start, Instant.now()).toNanos())
+                .orElse(now);
+    }
+
+    // Call on the FX thread right after the first screen is shown
+    public void markFirstFrameOnNextPulse() {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                firstFrameNanos = System.nanoTime() - originNanos;
+            }
+        }.start();
+    }
+
+    public void markInteractive() {
+        if (interactiveNanos == NOT_REACHED) {
+            interactiveNanos = System.nanoTime() - originNanos;
+        }
+    }
+
+    public <T> T time(String stage, Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            recordStage(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void run(String stage, Runnable task) {
+        time(stage, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public synchronized void recordStage(String stage, long nanos) {
+        stageNanos.put(stage, nanos);
+    }
+
+    // -1 until the milestone is reached
+    public long getTimeToFirstFrameNanos() {
+        return firstFrameNanos;
+    }
+
+    public long getTimeToInteractiveNanos() {
+        return interactiveNanos;
+    }
+
+    public synchronized Map<String, Long> getStageNanos() {
+        return new LinkedHashMap<>(stageNanos);
+    }
+
+    // Unreached milestones are reported as Long.MIN_VALUE, which recordings show as N/A
+    public void commitEvents() {
+        WordleEvents.Startup startup = new WordleEvents.Startup();
+        if (startup.shouldCommit()) {
+            startup.firstFrame = firstFrameNanos == NOT_REACHED ? Long.MIN_VALUE : firstFrameNanos;
+            startup.interactive = interactiveNanos == NOT_REACHED ? Long.MIN_VALUE : interactiveNanos;
+            startup.commit();
+        }
+        getStageNanos().forEach((stage, nanos) -> {
+            WordleEvents.StartupStage event = new WordleEvents.StartupStage();
+            if (event.shouldCommit()) {
+                event.stage = stage;
+                event.time = nanos;
+                event.commit();
+            }
+        });
+    }
+}
@@ -0,0 +1,419 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+// Durable, append-only log of GameOutcomes so statistics survive restarts. append() queues the
+// outcome for a writer thread, which sleeps on the queue until there is work or a deadline is due,
+// and stores it as a fixed-width record in a memory-mapped segment file, forced to disk within
+// FORCE_EVERY_NANOS.
+// The writer also keeps plain totals and a leaderboard in step with the log and periodically saves
+// them as a snapshot, after which the segments the snapshot covers are deleted. Recovery loads the
+// snapshot and replays the records written after it.
+//
+// Segment "stats-<first sequence>.log": RECORDS_PER_SEGMENT records of RECORD_SIZE bytes (big-endian)
+//   0 type (1 started, 2 finished; 0 marks the end), 1 mode, 2 player, 3 won, 4 attempts,
+//   8 score, 12 timestamp millis, 20 solve nanos, 28 CRC32C of bytes 0-27
+// Snapshot "stats.snapshot": magic "WSTS", version, field count, next sequence, totals, entry count,
+//   leaderboard entries (score, timestamp millis, solve nanos, UTF-8 player name), CRC32C
+//   Version 1 snapshots end after the totals and carry no leaderboard
+public class StatisticsLog implements AutoCloseable {
+    public static final String DIRECTORY_PROPERTY = "wordle.stats.dir";
+
+    static final int RECORD_SIZE = 32;
+    static final int RECORDS_PER_SEGMENT = 32 * 1024;  // 1 MB segments
+    private static final int SNAPSHOT_MAGIC = 0x57535453;  // "WSTS"
+    private static final short SNAPSHOT_VERSION = 2;
+    private static final String SNAPSHOT_FILE = "stats.snapshot";
+    private static final long SNAPSHOT_EVERY_RECORDS = 4096;
+    private static final long SNAPSHOT_EVERY_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long FORCE_EVERY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    private static final GameOutcome CLOSE = GameOutcome.started(GameOutcome.Mode.SINGLE_PLAYER);  // compared by identity
+
+    private final Path directory;
+    // Totals and leaderboard of every record up to nextSequence, writer thread only
+    private final long[] totals;
+    private final Leaderboard leaderboard;
+    private final BlockingQueue<GameOutcome> pending = new LinkedBlockingQueue<>();
+    private final CRC32C checksum = new CRC32C();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    private MappedByteBuffer segment;
+    private long segmentFirstSequence;
+    private long nextSequence;
+    private long snapshotSequence;
+    private long lastSnapshotNanos = System.nanoTime();
+    private long forceDeadlineNanos = NO_DEADLINE;  // set by the first write since the last force
+
+    private StatisticsLog(Path directory, long[] totals, Leaderboard leaderboard, long nextSequence, long snapshotSequence)
+            throws IOException {
+        this.directory = directory;
+        this.totals = totals;
+        this.leaderboard = leaderboard;
+        this.nextSequence = nextSequence;
+        this.snapshotSequence = snapshotSequence;
+        mapSegment(nextSequence - nextSequence % RECORDS_PER_SEGMENT);
+        this.writer = new Thread(this::runWriter, "statistics-log");
+        writer.setDaemon(true);
+    }
+
+    public static Path defaultDirectory() {
+        String configured = System.getProperty(DIRECTORY_PROPERTY);
+        return configured != null ? Path.of(configured) : Path.of(System.getProperty("user.home"), ".wordle", "stats");
+    }
+
+    // Recovers the saved statistics and leaderboard into the manager, then starts logging new outcomes
+    public static StatisticsLog open(Path directory, StatisticsManager statistics) throws IOException {
+        Files.createDirectories(directory);
+        long[] totals = StatisticsManager.newTotals();
+        Leaderboard leaderboard = new Leaderboard();
+        long snapshotSequence = loadSnapshot(directory.resolve(SNAPSHOT_FILE), totals, leaderboard);
+        long nextSequence = replaySegments(directory, totals, leaderboard, snapshotSequence);
+
+        StatisticsLog log = new StatisticsLog(directory, totals, leaderboard, nextSequence, snapshotSequence);
+        statistics.restore(totals.clone());
+        Leaderboard ranked = statistics.getLeaderboard();
+        for (Leaderboard.Entry entry : leaderboard.entries()) {
+            ranked.submit(entry.player(), entry.score(), entry.solveNanos(), entry.timestampMillis());
+        }
+        log.writer.start();
+        return log;
+    }
+
+    // Called from any thread, usually the FX thread
+    public void append(GameOutcome outcome) {
+        if (!closed) {
+            pending.offer(outcome);
+        }
+    }
+
+    // Writes everything queued so far, saves a final snapshot and stops the writer
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pending.offer(CLOSE);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Blocks on the queue, waking only for an outcome or when a force or snapshot falls due
+    private void runWriter() {
+        try {
+            while (true) {
+                long deadline = Math.min(forceDeadlineNanos, snapshotDeadlineNanos());
+                GameOutcome outcome = deadline == NO_DEADLINE ? pending.take()
+                        : pending.poll(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                if (outcome == CLOSE) {
+                    break;
+                }
+                if (outcome != null) {
+                    try {
+                        write(outcome);
+                    } catch (IOException e) {
+                        System.err.println("Error writing statistics log: " + e.getMessage());
+                    }
+                }
+
+                long now = System.nanoTime();
+                if (nextSequence - snapshotSequence >= SNAPSHOT_EVERY_RECORDS || isDue(snapshotDeadlineNanos(), now)) {
+                    saveSnapshot();
+                } else if (isDue(forceDeadlineNanos, now)) {
+                    force();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        force();
+        if (nextSequence > snapshotSequence) {
+            saveSnapshot();
+        }
+    }
+
+    private long snapshotDeadlineNanos() {
+        return nextSequence > snapshotSequence ? lastSnapshotNanos + SNAPSHOT_EVERY_NANOS : NO_DEADLINE;
+    }
+
+    private static boolean isDue(long deadlineNanos, long now) {
+        return deadlineNanos != NO_DEADLINE && now - deadlineNanos >= 0;
+    }
+
+    private void force() {
+        segment.force();
+        forceDeadlineNanos = NO_DEADLINE;
+    }
+
+    private void write(GameOutcome outcome) throws IOException {
+        if (nextSequence - segmentFirstSequence == RECORDS_PER_SEGMENT) {
+            force();
+            mapSegment(nextSequence);
+        }
+        int offset = (int) (nextSequence - segmentFirstSequence) * RECORD_SIZE;
+        segment.put(offset, (byte) (outcome.type().ordinal() + 1));
+        segment.put(offset + 1, (byte) outcome.mode().ordinal());
+        segment.put(offset + 2, (byte) outcome.player());
+        segment.put(offset + 3, (byte) (outcome.won() ? 1 : 0));
+        segment.put(offset + 4, (byte) outcome.attempts());
+        segment.putInt(offset + 8, outcome.score());
+        segment.putLong(offset + 12, outcome.timestampMillis());
+        segment.putLong(offset + 20, outcome.solveNanos());
+        segment.putInt(offset + 28, recordChecksum(checksum, segment, offset));
+        StatisticsManager.applyTo(totals, outcome);
+        StatisticsManager.rank(leaderboard, outcome);
+        nextSequence++;
+        if (forceDeadlineNanos == NO_DEADLINE) {
+            forceDeadlineNanos = System.nanoTime() + FORCE_EVERY_NANOS;
+        }
+    }
+
+    private void saveSnapshot() {
+        try {
+            force();
+            writeSnapshot(directory.resolve(SNAPSHOT_FILE), nextSequence, totals, leaderboard.entries());
+            snapshotSequence = nextSequence;
+            deleteCoveredSegments();
+        } catch (IOException e) {
+            System.err.println("Error saving statistics snapshot: " + e.getMessage());
+        }
+        lastSnapshotNanos = System.nanoTime();
+    }
+
+    private void mapSegment(long firstSequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(directory, firstSequence),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) RECORDS_PER_SEGMENT * RECORD_SIZE);
+        }
+        segment.order(ByteOrder.BIG_ENDIAN);
+        segmentFirstSequence = firstSequence;
+
+        // A torn record from a crash may remain where writing resumes; clear the rest of the segment
+        int offset = (int) (nextSequence - firstSequence) * RECORD_SIZE;
+        if (offset < segment.capacity() && !isEmptySlot(segment, offset)) {
+            for (int i = offset; i < segment.capacity(); i += Long.BYTES) {
+                segment.putLong(i, 0);
+            }
+        }
+    }
+
+    private static boolean isEmptySlot(ByteBuffer records, int offset) {
+        for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) {
+            if (records.getLong(offset + i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void deleteCoveredSegments() throws IOException {
+        for (long first : listSegments(directory)) {
+            if (first + RECORDS_PER_SEGMENT <= snapshotSequence && first != segmentFirstSequence) {
+                Files.deleteIfExists(segmentPath(directory, first));
+            }
+        }
+    }
+
+    // Applies every valid record at or after fromSequence; returns the sequence writing resumes at
+    private static long replaySegments(Path directory, long[] totals, Leaderboard leaderboard, long fromSequence)
+            throws IOException {
+        long sequence = fromSequence;
+        CRC32C checksum = new CRC32C();
+        for (long first : listSegments(directory)) {
+            if (first + RECORDS_PER_SEGMENT <= sequence) {
+                continue;  // Covered by the snapshot
+            }
+            if (first > sequence) {
+                // Records after a gap or a torn record cannot be trusted
+                Files.deleteIfExists(segmentPath(directory, first));
+                continue;
+            }
+            ByteBuffer records = readSegment(segmentPath(directory, first));
+            int index = (int) (sequence - first);
+            while (index < RECORDS_PER_SEGMENT) {
+                GameOutcome outcome = readRecord(checksum, records, index * RECORD_SIZE);
+                if (outcome == null) {
+                    break;
+                }
+                StatisticsManager.applyTo(totals, outcome);
+                StatisticsManager.rank(leaderboard, outcome);
+                index++;
+                sequence++;
+            }
+        }
+        return sequence;
+    }
+
+    private static ByteBuffer readSegment(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer records = ByteBuffer.allocate(RECORDS_PER_SEGMENT * RECORD_SIZE);
+            while (records.hasRemaining() && channel.read(records) >= 0) {
+                // Keep reading; a short file leaves zeros, which end the replay
+            }
+            return records.order(ByteOrder.BIG_ENDIAN);
+        }
+    }
+
+    // Returns null for an empty slot or a record whose checksum does not match
+    private static GameOutcome readRecord(CRC32C checksum, ByteBuffer records, int offset) {
+        int type = records.get(offset);
+        if (type < 1 || type > GameOutcome.Type.values().length
+                || records.getInt(offset + 28) != recordChecksum(checksum, records, offset)) {
+            return null;
+        }
+        int mode = records.get(offset + 1);
+        if (mode < 0 || mode >= GameOutcome.Mode.values().length) {
+            return null;
+        }
+        return new GameOutcome(GameOutcome.Type.values()[type - 1], GameOutcome.Mode.values()[mode],
+                records.get(offset + 2), records.get(offset + 3) != 0, records.get(offset + 4),
+                records.getInt(offset + 8), records.getLong(offset + 12), records.getLong(offset + 20));
+    }
+
+    private static int recordChecksum(CRC32C checksum, ByteBuffer buffer, int offset) {
+        checksum.reset();
+        checksum.update(buffer.duplicate().limit(offset + 28).position(offset));
+        return (int) checksum.getValue();
+    }
+
+    // Returns the next sequence stored in the snapshot, or 0 when there is no usable snapshot
+    private static long loadSnapshot(Path path, long[] totals, Leaderboard leaderboard) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return 0;
+        }
+        ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.BIG_ENDIAN);
+        int checksumOffset = snapshot.capacity() - Integer.BYTES;
+        if (checksumOffset < 20 || snapshot.getInt(0) != SNAPSHOT_MAGIC
+                || snapshot.getShort(4) < 1 || snapshot.getShort(4) > SNAPSHOT_VERSION) {
+            System.err.println("Ignoring unreadable statistics snapshot " + path);
+            return 0;
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(snapshot.duplicate().limit(checksumOffset).position(0));
+        if ((int) checksum.getValue() != snapshot.getInt(checksumOffset)) {
+            System.err.println("Ignoring corrupt statistics snapshot " + path);
+            return 0;
+        }
+
+        try {
+            int fieldCount = snapshot.getInt(8);
+            long[] saved = new long[fieldCount];
+            snapshot.position(20);
+            for (int i = 0; i < fieldCount; i++) {
+                saved[i] = snapshot.getLong();
+            }
+            List<Leaderboard.Entry> entries = new ArrayList<>();
+            if (snapshot.getShort(4) >= 2) {
+                int entryCount = snapshot.getInt();
+                for (int i = 0; i < entryCount; i++) {
+                    int score = snapshot.getInt();
+                    long timestampMillis = snapshot.getLong();
+                    long solveNanos = snapshot.getLong();
+                    byte[] name = new byte[Short.toUnsignedInt(snapshot.getShort())];
+                    snapshot.get(name);
+                    entries.add(new Leaderboard.Entry(new String(name, StandardCharsets.UTF_8), score, solveNanos,
+                            timestampMillis, i));
+                }
+            }
+            if (snapshot.position() != checksumOffset) {
+                throw new IllegalStateException("Unexpected snapshot length");
+            }
+            // An older, shorter array leaves the fields added since at zero, which reads as no samples
+            System.arraycopy(saved, 0, totals, 0, Math.min(saved.length, totals.length));
+            for (Leaderboard.Entry entry : entries) {
+                leaderboard.submit(entry.player(), entry.score(), entry.solveNanos(), entry.timestampMillis());
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Ignoring unreadable statistics snapshot " + path);
+            return 0;
+        }
+        return snapshot.getLong(12);
+    }
+
+    // Written to a temporary file and moved into place, so a crash leaves the old snapshot intact
+    private static void writeSnapshot(Path path, long nextSequence, long[] totals, List<Leaderboard.Entry> entries)
+            throws IOException {
+        List<byte[]> names = new ArrayList<>(entries.size());
+        int entryBytes = 0;
+        for (Leaderboard.Entry entry : entries) {
+            byte[] name = entry.player().getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            entryBytes += Integer.BYTES + 2 * Long.BYTES + Short.BYTES + name.length;
+        }
+        ByteBuffer snapshot = ByteBuffer.allocate(20 + totals.length * Long.BYTES + Integer.BYTES + entryBytes + Integer.BYTES)
+                .order(ByteOrder.BIG_ENDIAN);
+        snapshot.putInt(SNAPSHOT_MAGIC);
+        snapshot.putShort(SNAPSHOT_VERSION);
+        snapshot.putShort((short) 0);
+        snapshot.putInt(totals.length);
+        snapshot.putLong(nextSequence);
+        for (long total : totals) {
+            snapshot.putLong(total);
+        }
+        snapshot.putInt(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            Leaderboard.Entry entry = entries.get(i);
+            snapshot.putInt(entry.score());
+            snapshot.putLong(entry.timestampMillis());
+            snapshot.putLong(entry.solveNanos());
+            snapshot.putShort((short) names.get(i).length);
+            snapshot.put(names.get(i));
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(snapshot.array(), 0, snapshot.position());
+        snapshot.putInt((int) checksum.getValue());
+        snapshot.flip();
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (snapshot.hasRemaining()) {
+                channel.write(snapshot);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static List<Long> listSegments(Path directory) throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "stats-*.log")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    segments.add(Long.parseLong(name.substring("stats-".length(), name.length() - ".log".length())));
+                } catch (NumberFormatException e) {
+                    System.err.println("Ignoring unexpected file in statistics log: " + file);
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private static Path segmentPath(Path directory, long firstSequence) {
+        return directory.resolve(String.format("stats-%019d.log", firstSequence));
+    }
+}
@@ -2,113 +2,374 @@ package com.example.demo;
 
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.chart.BarChart;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 import javafx.scene.layout.HBox;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
 
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// Game statistics that any number of threads can update without locking. Each sum is a LongAdder
+// and each minimum or maximum a LongAccumulator, so writers never wait for one another. A finished
+// game is recorded as one update bracketed by two more adders, updatesStarted before it and
+// updatesFinished after it. All of them only ever move one way, so a reader that sees
+// updatesFinished equal to a later read of updatesStarted knows no update overlapped its reads:
+// the snapshot holds every update completely or not at all. Readers retry while updates overlap;
+// writers are never held up by readers.
 public class StatisticsManager {
 
     // Single-player statistics
-    private int singlePlayerGamesPlayed;
-    private int singlePlayerWins;
-    private int singlePlayerLosses;
-    private int singlePlayerTotalGuessesForWins;
-    private int singlePlayerTotalScore;
+    private static final int SINGLE_PLAYER_GAMES_PLAYED = 0;
+    private static final int SINGLE_PLAYER_WINS = 1;
+    private static final int SINGLE_PLAYER_LOSSES = 2;
+    private static final int SINGLE_PLAYER_TOTAL_GUESSES_FOR_WINS = 3;
+    private static final int SINGLE_PLAYER_TOTAL_SCORE = 4;
+    private static final int SINGLE_PLAYER_FEWEST_GUESSES = 5;  // min
+    private static final int SINGLE_PLAYER_BEST_SCORE = 6;  // max
 
     // Multiplayer statistics
-    private int multiPlayerGamesPlayed;
-    private int player1Wins;
-    private int player2Wins;
-    private int player1Losses;
-    private int player2Losses;
-    private int multiPlayerTotalGuessesForWins;
-    private int player1TotalScore;
-    private int player2TotalScore;
-    private int multiPlayerTotalScore;
+    private static final int MULTI_PLAYER_GAMES_PLAYED = 7;
+    private static final int PLAYER1_WINS = 8;
+    private static final int PLAYER2_WINS = 9;
+    private static final int PLAYER1_LOSSES = 10;
+    private static final int PLAYER2_LOSSES = 11;
+    private static final int MULTI_PLAYER_TOTAL_GUESSES_FOR_WINS = 12;
+    private static final int PLAYER1_TOTAL_SCORE = 13;
+    private static final int PLAYER2_TOTAL_SCORE = 14;
+    private static final int MULTI_PLAYER_TOTAL_SCORE = 15;
+    private static final int MULTI_PLAYER_FEWEST_GUESSES = 16;  // min
+    private static final int MULTI_PLAYER_BEST_SCORE = 17;  // max
+
+    // Histograms, one field per bucket
+    private static final int SINGLE_PLAYER_GUESSES = 18;
+    private static final int PLAYER1_GUESSES = SINGLE_PLAYER_GUESSES + Histogram.GUESS_BOUNDS.length;
+    private static final int PLAYER2_GUESSES = PLAYER1_GUESSES + Histogram.GUESS_BOUNDS.length;
+    private static final int SINGLE_PLAYER_SOLVE_TIMES = PLAYER2_GUESSES + Histogram.GUESS_BOUNDS.length;
+    private static final int MULTI_PLAYER_SOLVE_TIMES = SINGLE_PLAYER_SOLVE_TIMES + Histogram.SOLVE_TIME_BOUNDS.length;
+
+    private static final int FIELD_COUNT = MULTI_PLAYER_SOLVE_TIMES + Histogram.SOLVE_TIME_BOUNDS.length;
+
+    private final Fields fields = new Fields();
+    private final LongAdder updatesStarted = new LongAdder();
+    private final LongAdder updatesFinished = new LongAdder();
+    private volatile StatisticsLog eventLog;  // optional, receives every recorded GameOutcome
+    private final Leaderboard leaderboard = new Leaderboard();
+
+    public record SinglePlayerSnapshot(long gamesPlayed, long wins, long losses, long totalGuessesForWins,
+                                       long totalScore, long fewestGuessesForWin, long bestScore,
+                                       Histogram guesses, Histogram solveTimes) {
+        public double winRate() {
+            return gamesPlayed > 0 ? (double) wins / gamesPlayed * 100 : 0;
+        }
+
+        public double averageGuessesPerWin() {
+            return wins > 0 ? (double) totalGuessesForWins / wins : 0;
+        }
+    }
+
+    public record MultiPlayerSnapshot(long gamesPlayed, long player1Wins, long player2Wins,
+                                      long player1Losses, long player2Losses, long totalGuessesForWins,
+                                      long player1TotalScore, long player2TotalScore, long totalScore,
+                                      long fewestGuessesForWin, long bestScore,
+                                      Histogram player1Guesses, Histogram player2Guesses, Histogram solveTimes) {
+        public Histogram guesses() {
+            return player1Guesses.merge(player2Guesses);
+        }
+    }
 
     public StatisticsManager() {
-        resetStats();
-    }
-
-    private void resetStats() {
-        singlePlayerGamesPlayed = 0;
-        singlePlayerWins = 0;
-        singlePlayerLosses = 0;
-        singlePlayerTotalGuessesForWins = 0;
-        singlePlayerTotalScore = 0;
-        multiPlayerGamesPlayed = 0;
-        player1Wins = 0;
-        player2Wins = 0;
-        player1Losses = 0;
-        player2Losses = 0;
-        multiPlayerTotalGuessesForWins = 0;
-        player1TotalScore = 0;
-        player2TotalScore = 0;
-        multiPlayerTotalScore = 0;
+    }
+
+    public void setEventLog(StatisticsLog eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    // Applies the outcome, ranks wins on the leaderboard and hands it to the event log, if one is set
+    public void record(GameOutcome outcome) {
+        WordleEvents.StatisticsUpdate event = new WordleEvents.StatisticsUpdate();
+        event.begin();
+        apply(outcome);
+        rank(leaderboard, outcome);
+        StatisticsLog log = eventLog;
+        if (log != null) {
+            log.append(outcome);
+        }
+        GameMetrics.outcome(outcome);
+        if (event.shouldCommit()) {
+            event.type = outcome.type().name();
+            event.mode = outcome.mode().name();
+            event.won = outcome.won();
+            event.commit();
+        }
+    }
+
+    // Applies the outcome without logging it; used when replaying the log
+    void apply(GameOutcome outcome) {
+        write(counters -> apply(counters, outcome));
+    }
+
+    // Submits a won game to the leaderboard; record() and StatisticsLog both rank through here
+    static void rank(Leaderboard leaderboard, GameOutcome outcome) {
+        if (outcome.type() == GameOutcome.Type.FINISHED && outcome.won()) {
+            leaderboard.submit(outcome.player() == 0 ? "Player" : "Player " + outcome.player(),
+                    outcome.score(), outcome.solveNanos(), outcome.timestampMillis());
+        }
     }
 
     // Single-player methods
     public void incrementSinglePlayerGamesPlayed() {
-        singlePlayerGamesPlayed++;
+        record(GameOutcome.started(GameOutcome.Mode.SINGLE_PLAYER));
     }
 
-    public void incrementSinglePlayerWins() {
-        singlePlayerWins++;
+    // Applies the outcome to plain totals laid out as totals() returns them, for StatisticsLog's writer
+    static void applyTo(long[] totals, GameOutcome outcome) {
+        apply(new TotalsCounters(totals), outcome);
     }
 
-    public void incrementSinglePlayerLosses() {
-        singlePlayerLosses++;
+    static long[] newTotals() {
+        return new long[FIELD_COUNT];
     }
 
-    public void addSinglePlayerGuessesForWin(int guesses) {
-        singlePlayerTotalGuessesForWins += guesses;
+    private static void apply(Counters counters, GameOutcome outcome) {
+        boolean singlePlayer = outcome.mode() == GameOutcome.Mode.SINGLE_PLAYER;
+        if (outcome.type() == GameOutcome.Type.STARTED) {
+            counters.add(singlePlayer ? SINGLE_PLAYER_GAMES_PLAYED : MULTI_PLAYER_GAMES_PLAYED, 1);
+        } else if (singlePlayer) {
+            applySinglePlayerResult(counters, outcome.won(), outcome.attempts(), outcome.score(), outcome.solveNanos());
+        } else {
+            applyMultiPlayerResult(counters, outcome.player(), outcome.won(), outcome.attempts(), outcome.score(),
+                    outcome.solveNanos());
+        }
     }
 
-    public void addScore(int score) {
-        singlePlayerTotalScore += score;
+    private static void applySinglePlayerResult(Counters counters, boolean won, int guesses, int score, long solveNanos) {
+        counters.add(SINGLE_PLAYER_GUESSES + Histogram.guessBucket(won, guesses), 1);
+        if (won) {
+            counters.add(SINGLE_PLAYER_WINS, 1);
+            counters.add(SINGLE_PLAYER_TOTAL_GUESSES_FOR_WINS, guesses);
+            counters.min(SINGLE_PLAYER_FEWEST_GUESSES, guesses);
+            if (solveNanos > 0) {
+                counters.add(SINGLE_PLAYER_SOLVE_TIMES + Histogram.solveTimeBucket(solveNanos), 1);
+            }
+        } else {
+            counters.add(SINGLE_PLAYER_LOSSES, 1);
+        }
+        counters.add(SINGLE_PLAYER_TOTAL_SCORE, score);
+        counters.max(SINGLE_PLAYER_BEST_SCORE, score);
     }
 
     // Multiplayer methods
     public void incrementMultiPlayerGamesPlayed() {
-        multiPlayerGamesPlayed++;
+        record(GameOutcome.started(GameOutcome.Mode.MULTI_PLAYER));
+    }
+
+    private static void applyMultiPlayerResult(Counters counters, int guessingPlayer, boolean won, int guesses, int score,
+                                               long solveNanos) {
+        counters.add((guessingPlayer == 1 ? PLAYER1_GUESSES : PLAYER2_GUESSES) + Histogram.guessBucket(won, guesses), 1);
+        if (won) {
+            counters.add(guessingPlayer == 1 ? PLAYER1_WINS : PLAYER2_WINS, 1);
+            counters.add(MULTI_PLAYER_TOTAL_GUESSES_FOR_WINS, guesses);
+            counters.min(MULTI_PLAYER_FEWEST_GUESSES, guesses);
+            addMultiPlayerScore(counters, score, guessingPlayer);
+            if (solveNanos > 0) {
+                counters.add(MULTI_PLAYER_SOLVE_TIMES + Histogram.solveTimeBucket(solveNanos), 1);
+            }
+        } else {
+            counters.add(guessingPlayer == 1 ? PLAYER1_LOSSES : PLAYER2_LOSSES, 1);
+        }
     }
 
-    public void incrementPlayer1Wins() {
-        player1Wins++;
+    private static void addMultiPlayerScore(Counters counters, int score, int player) {
+        if (player == 1) {
+            counters.add(PLAYER1_TOTAL_SCORE, score);
+        } else if (player == 2) {
+            counters.add(PLAYER2_TOTAL_SCORE, score);
+        }
+        counters.add(MULTI_PLAYER_TOTAL_SCORE, score);
+        counters.max(MULTI_PLAYER_BEST_SCORE, score);
     }
 
-    public void incrementPlayer2Wins() {
-        player2Wins++;
+    public SinglePlayerSnapshot getSinglePlayerSnapshot() {
+        long[] totals = snapshot();
+        return new SinglePlayerSnapshot(
+                totals[SINGLE_PLAYER_GAMES_PLAYED],
+                totals[SINGLE_PLAYER_WINS],
+                totals[SINGLE_PLAYER_LOSSES],
+                totals[SINGLE_PLAYER_TOTAL_GUESSES_FOR_WINS],
+                totals[SINGLE_PLAYER_TOTAL_SCORE],
+                totals[SINGLE_PLAYER_FEWEST_GUESSES],
+                totals[SINGLE_PLAYER_BEST_SCORE],
+                histogram(totals, SINGLE_PLAYER_GUESSES, Histogram.GUESS_BOUNDS),
+                histogram(totals, SINGLE_PLAYER_SOLVE_TIMES, Histogram.SOLVE_TIME_BOUNDS));
     }
 
-    public void incrementPlayer1Losses() {
-        player1Losses++;
+    public MultiPlayerSnapshot getMultiPlayerSnapshot() {
+        long[] totals = snapshot();
+        return new MultiPlayerSnapshot(
+                totals[MULTI_PLAYER_GAMES_PLAYED],
+                totals[PLAYER1_WINS],
+                totals[PLAYER2_WINS],
+                totals[PLAYER1_LOSSES],
+                totals[PLAYER2_LOSSES],
+                totals[MULTI_PLAYER_TOTAL_GUESSES_FOR_WINS],
+                totals[PLAYER1_TOTAL_SCORE],
+                totals[PLAYER2_TOTAL_SCORE],
+                totals[MULTI_PLAYER_TOTAL_SCORE],
+                totals[MULTI_PLAYER_FEWEST_GUESSES],
+                totals[MULTI_PLAYER_BEST_SCORE],
+                histogram(totals, PLAYER1_GUESSES, Histogram.GUESS_BOUNDS),
+                histogram(totals, PLAYER2_GUESSES, Histogram.GUESS_BOUNDS),
+                histogram(totals, MULTI_PLAYER_SOLVE_TIMES, Histogram.SOLVE_TIME_BOUNDS));
     }
 
-    public void incrementPlayer2Losses() {
-        player2Losses++;
+    private static Histogram histogram(long[] totals, int firstField, long[] upperBounds) {
+        long[] counts = new long[upperBounds.length];
+        System.arraycopy(totals, firstField, counts, 0, counts.length);
+        return new Histogram(upperBounds, counts);
     }
 
-    public void addMultiPlayerGuessesForWin(int guesses) {
-        multiPlayerTotalGuessesForWins += guesses;
+    // Every counter in a fixed order, for StatisticsLog snapshots
+    long[] totals() {
+        return snapshot();
     }
 
-    public void addMultiPlayerScore(int score, int player) {
-        if (player == 1) {
-            player1TotalScore += score;
-        } else if (player == 2) {
-            player2TotalScore += score;
+    // Adds totals saved by totals(); an older, shorter array leaves the missing fields untouched
+    void restore(long[] totals) {
+        write(counters -> {
+            for (int i = 0; i < Math.min(totals.length, FIELD_COUNT); i++) {
+                if (isMinimum(i)) {
+                    if (totals[i] > 0) {
+                        counters.min(i, totals[i]);
+                    }
+                } else if (isMaximum(i)) {
+                    counters.max(i, totals[i]);
+                } else {
+                    counters.add(i, totals[i]);
+                }
+            }
+        });
+    }
+
+    private void write(Consumer<Counters> update) {
+        updatesStarted.increment();
+        try {
+            update.accept(fields);
+        } finally {
+            updatesFinished.increment();
+        }
+    }
+
+    // Sums, minimums and maximums of every field; a minimum with no samples reads as 0
+    private long[] snapshot() {
+        long[] totals = new long[FIELD_COUNT];
+        for (int attempt = 0; ; attempt++) {
+            long finished = updatesFinished.sum();
+            fields.read(totals);
+            if (updatesStarted.sum() == finished) {
+                break;
+            }
+            // An update overlapped the reads; a writer paused mid-update is given the CPU to finish
+            if (attempt < 16) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        if (totals[SINGLE_PLAYER_FEWEST_GUESSES] == Long.MAX_VALUE) {
+            totals[SINGLE_PLAYER_FEWEST_GUESSES] = 0;
+        }
+        if (totals[MULTI_PLAYER_FEWEST_GUESSES] == Long.MAX_VALUE) {
+            totals[MULTI_PLAYER_FEWEST_GUESSES] = 0;
+        }
+        return totals;
+    }
+
+    private static boolean isMinimum(int field) {
+        return field == SINGLE_PLAYER_FEWEST_GUESSES || field == MULTI_PLAYER_FEWEST_GUESSES;
+    }
+
+    private static boolean isMaximum(int field) {
+        return field == SINGLE_PLAYER_BEST_SCORE || field == MULTI_PLAYER_BEST_SCORE;
+    }
+
+    private interface Counters {
+        void add(int field, long delta);
+
+        void min(int field, long value);
+
+        void max(int field, long value);
+    }
+
+    // Totals as totals() returns them: a minimum of 0 means no samples yet
+    private record TotalsCounters(long[] totals) implements Counters {
+        @Override
+        public void add(int field, long delta) {
+            totals[field] += delta;
+        }
+
+        @Override
+        public void min(int field, long value) {
+            if (totals[field] == 0 || value < totals[field]) {
+                totals[field] = value;
+            }
+        }
+
+        @Override
+        public void max(int field, long value) {
+            totals[field] = Math.max(totals[field], value);
+        }
+    }
+
+    // One LongAdder per sum and one LongAccumulator per minimum or maximum
+    private static final class Fields implements Counters {
+        private final LongAdder[] sums = new LongAdder[FIELD_COUNT];
+        private final LongAccumulator[] extremes = new LongAccumulator[FIELD_COUNT];
+
+        Fields() {
+            for (int i = 0; i < FIELD_COUNT; i++) {
+                if (isMinimum(i)) {
+                    extremes[i] = new LongAccumulator(Math::min, Long.MAX_VALUE);
+                } else if (isMaximum(i)) {
+                    extremes[i] = new LongAccumulator(Math::max, 0);
+                } else {
+                    sums[i] = new LongAdder();
+                }
+            }
+        }
+
+        @Override
+        public void add(int field, long delta) {
+            sums[field].add(delta);
+        }
+
+        @Override
+        public void min(int field, long value) {
+            extremes[field].accumulate(value);
+        }
+
+        @Override
+        public void max(int field, long value) {
+            extremes[field].accumulate(value);
+        }
+
+        void read(long[] into) {
+            for (int i = 0; i < FIELD_COUNT; i++) {
+                into[i] = sums[i] != null ? sums[i].sum() : extremes[i].get();
+            }
         }
-        multiPlayerTotalScore += score;
     }
 
     public String getSinglePlayerStatistics() {
-        double averageGuesses = singlePlayerWins > 0 ? (double) singlePlayerTotalGuessesForWins / singlePlayerWins : 0;
-        double averageScore = singlePlayerGamesPlayed > 0 ? (double) singlePlayerTotalScore / singlePlayerGamesPlayed : 0;
-        double winRate = singlePlayerGamesPlayed > 0 ? (double) singlePlayerWins / singlePlayerGamesPlayed * 100 : 0;
+        SinglePlayerSnapshot stats = getSinglePlayerSnapshot();
 
         return String.format(
                 "Games Played: %d\n" +
@@ -119,26 +380,28 @@ public class StatisticsManager {
                         "\n" +
                         "Average Guesses per Win: %.2f\n" +
                         "Total Score: %d",
-                singlePlayerGamesPlayed,
-                singlePlayerWins,
-                singlePlayerLosses,
-                winRate,
-                averageGuesses,
-                singlePlayerTotalScore
+                stats.gamesPlayed(),
+                stats.wins(),
+                stats.losses(),
+                stats.winRate(),
+                stats.averageGuessesPerWin(),
+                stats.totalScore()
         );
     }
 
     public String getMultiPlayerStatistics() {
+        MultiPlayerSnapshot stats = getMultiPlayerSnapshot();
+
         return String.format(
                 "Player 1 Wins: %d                          Player 2 Wins: %d\n" +
                         "Player 1 Losses: %d                         Player 2 Losses: %d\n" +
                         "Player 1 Total Score: %d                Player 2 Total Score: %d\n" +
                         "\n" +
                         "Total Games Played: %d\n",
-                player1Wins, player2Wins,
-                player1Losses, player2Losses,
-                player1TotalScore, player2TotalScore,
-                multiPlayerGamesPlayed
+                stats.player1Wins(), stats.player2Wins(),
+                stats.player1Losses(), stats.player2Losses(),
+                stats.player1TotalScore(), stats.player2TotalScore(),
+                stats.gamesPlayed()
         );
     }
 
@@ -150,30 +413,28 @@ public class StatisticsManager {
         VBox statsBox = new VBox(10);
         statsBox.setAlignment(Pos.CENTER);
         statsBox.setPadding(new Insets(20));
-        statsBox.setStyle(
-                "-fx-background-color: white; " +
-                        "-fx-border-color: #e0e0e0; " +
-                        "-fx-border-width: 1; " +
-                        "-fx-border-radius: 5; " +
-                        "-fx-background-radius: 5; " +
-                        "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.1), 5, 0, 0, 1);"
-        );
-
-        Label titleLabel = new Label("Single Player Statistics");
-        titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 20));
-        titleLabel.setTextFill(Color.BLACK);
-
-        double winRate = singlePlayerGamesPlayed > 0 ? (double) singlePlayerWins / singlePlayerGamesPlayed * 100 : 0;
-        double averageGuesses = singlePlayerWins > 0 ? (double) singlePlayerTotalGuessesForWins / singlePlayerWins : 0;
-
-        HBox gamesPlayedBox = createStatRow("Games Played", String.valueOf(singlePlayerGamesPlayed));
-        HBox winsBox = createStatRow("Wins", String.valueOf(singlePlayerWins));
-        HBox lossesBox = createStatRow("Losses", String.valueOf(singlePlayerLosses));
-        HBox winRateBox = createStatRow("Win Rate", String.format("%.2f%%", winRate));
-        HBox avgGuessesBox = createStatRow("Avg Guesses per Win", String.format("%.2f", averageGuesses));
-        HBox totalScoreBox = createStatRow("Total Score", String.valueOf(singlePlayerTotalScore));
-
-        statsBox.getChildren().addAll(titleLabel, gamesPlayedBox, winsBox, lossesBox, winRateBox, avgGuessesBox, totalScoreBox);
+        statsBox.getStyleClass().add("card");
+
+        Label titleLabel = Styles.styled(new Label("Single Player Statistics"), "card-title");
+
+        SinglePlayerSnapshot stats = getSinglePlayerSnapshot();
+
+        HBox gamesPlayedBox = createStatRow("Games Played", String.valueOf(stats.gamesPlayed()));
+        HBox winsBox = createStatRow("Wins", String.valueOf(stats.wins()));
+        HBox lossesBox = createStatRow("Losses", String.valueOf(stats.losses()));
+        HBox winRateBox = createStatRow("Win Rate", String.format("%.2f%%", stats.winRate()));
+        HBox avgGuessesBox = createStatRow("Avg Guesses per Win", String.format("%.2f", stats.averageGuessesPerWin()));
+        HBox fewestGuessesBox = createStatRow("Fewest Guesses", stats.fewestGuessesForWin() > 0 ? String.valueOf(stats.fewestGuessesForWin()) : "-");
+        HBox bestScoreBox = createStatRow("Best Score", String.valueOf(stats.bestScore()));
+        HBox totalScoreBox = createStatRow("Total Score", String.valueOf(stats.totalScore()));
+        HBox guessPercentilesBox = createStatRow("Guesses p50/p90/p99", formatGuessPercentiles(stats.guesses()));
+        HBox solveTimePercentilesBox = createStatRow("Solve Time p50/p90/p99", formatSolveTimePercentiles(stats.solveTimes()));
+        BarChart<String, Number> guessChart = createGuessChart();
+        guessChart.getData().add(createGuessSeries("Games", stats.guesses()));
+        guessChart.setLegendVisible(false);
+
+        statsBox.getChildren().addAll(titleLabel, gamesPlayedBox, winsBox, lossesBox, winRateBox, avgGuessesBox,
+                fewestGuessesBox, bestScoreBox, totalScoreBox, guessPercentilesBox, solveTimePercentilesBox, guessChart);
         return statsBox;
     }
 
@@ -181,47 +442,94 @@ public class StatisticsManager {
         VBox statsBox = new VBox(20);
         statsBox.setAlignment(Pos.CENTER);
         statsBox.setPadding(new Insets(20));
-        statsBox.setStyle(
-                "-fx-background-color: white; " +
-                        "-fx-border-color: #e0e0e0; " +
-                        "-fx-border-width: 1; " +
-                        "-fx-border-radius: 5; " +
-                        "-fx-background-radius: 5; " +
-                        "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.1), 5, 0, 0, 1);"
-        );
+        statsBox.getStyleClass().add("card");
 
-        Label titleLabel = new Label("Multiplayer Statistics");
-        titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 20));
-        titleLabel.setTextFill(Color.BLACK);
+        Label titleLabel = Styles.styled(new Label("Multiplayer Statistics"), "card-title");
 
         HBox playersBox = new HBox(50);
         playersBox.setAlignment(Pos.CENTER);
 
-        VBox player1Stats = createPlayerStatsBox("Player 1", player1Wins, player1Losses, player1TotalScore);
-        VBox player2Stats = createPlayerStatsBox("Player 2", player2Wins, player2Losses, player2TotalScore);
+        MultiPlayerSnapshot stats = getMultiPlayerSnapshot();
 
-        playersBox.getChildren().addAll(player1Stats, player2Stats);
+        VBox player1Stats = createPlayerStatsBox("Player 1", stats.player1Wins(), stats.player1Losses(), stats.player1TotalScore());
+        VBox player2Stats = createPlayerStatsBox("Player 2", stats.player2Wins(), stats.player2Losses(), stats.player2TotalScore());
 
-        HBox gamesPlayedBox = createStatRow("Total Games Played", String.valueOf(multiPlayerGamesPlayed));
+        playersBox.getChildren().addAll(player1Stats, player2Stats);
 
-        statsBox.getChildren().addAll(titleLabel, playersBox, gamesPlayedBox);
+        HBox gamesPlayedBox = createStatRow("Total Games Played", String.valueOf(stats.gamesPlayed()));
+        HBox fewestGuessesBox = createStatRow("Fewest Guesses", stats.fewestGuessesForWin() > 0 ? String.valueOf(stats.fewestGuessesForWin()) : "-");
+        HBox bestScoreBox = createStatRow("Best Score", String.valueOf(stats.bestScore()));
+        HBox guessPercentilesBox = createStatRow("Guesses p50/p90/p99", formatGuessPercentiles(stats.guesses()));
+        HBox solveTimePercentilesBox = createStatRow("Solve Time p50/p90/p99", formatSolveTimePercentiles(stats.solveTimes()));
+        BarChart<String, Number> guessChart = createGuessChart();
+        guessChart.getData().add(createGuessSeries("Player 1", stats.player1Guesses()));
+        guessChart.getData().add(createGuessSeries("Player 2", stats.player2Guesses()));
+
+        statsBox.getChildren().addAll(titleLabel, playersBox, gamesPlayedBox, fewestGuessesBox, bestScoreBox,
+                guessPercentilesBox, solveTimePercentilesBox, guessChart);
         return statsBox;
     }
 
-    private VBox createPlayerStatsBox(String playerName, int wins, int losses, int totalScore) {
+    private BarChart<String, Number> createGuessChart() {
+        CategoryAxis guessesAxis = new CategoryAxis();
+        guessesAxis.setLabel("Guesses");
+        NumberAxis gamesAxis = new NumberAxis();
+        gamesAxis.setLabel("Games");
+        gamesAxis.setMinorTickVisible(false);
+
+        BarChart<String, Number> chart = new BarChart<>(guessesAxis, gamesAxis);
+        chart.setAnimated(false);
+        chart.setBarGap(2);
+        chart.setCategoryGap(8);
+        chart.setPrefHeight(200);
+        return chart;
+    }
+
+    private XYChart.Series<String, Number> createGuessSeries(String name, Histogram guesses) {
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        series.setName(name);
+        for (int i = 0; i < guesses.bucketCount(); i++) {
+            series.getData().add(new XYChart.Data<>(formatGuesses(guesses.upperBound(i)), guesses.count(i)));
+        }
+        return series;
+    }
+
+    private static String formatGuessPercentiles(Histogram guesses) {
+        if (guesses.totalCount() == 0) {
+            return "-";
+        }
+        return formatGuesses(guesses.percentile(50)) + " / " + formatGuesses(guesses.percentile(90))
+                + " / " + formatGuesses(guesses.percentile(99));
+    }
+
+    private static String formatGuesses(long guesses) {
+        return guesses == Histogram.FAILED ? "X" : String.valueOf(guesses);
+    }
+
+    private static String formatSolveTimePercentiles(Histogram solveTimes) {
+        if (solveTimes.totalCount() == 0) {
+            return "-";
+        }
+        return formatSolveTime(solveTimes.percentile(50)) + " / " + formatSolveTime(solveTimes.percentile(90))
+                + " / " + formatSolveTime(solveTimes.percentile(99));
+    }
+
+    // Percentiles are bucket upper bounds, rounded up to whole seconds
+    private static String formatSolveTime(long nanos) {
+        if (nanos == Long.MAX_VALUE) {
+            long longest = Histogram.SOLVE_TIME_BOUNDS[Histogram.SOLVE_TIME_BOUNDS.length - 2];
+            return ">" + formatSolveTime(longest);
+        }
+        long seconds = (nanos + 999_999_999L) / 1_000_000_000L;
+        return seconds < 60 ? seconds + "s" : seconds / 60 + "m " + seconds % 60 + "s";
+    }
+
+    private VBox createPlayerStatsBox(String playerName, long wins, long losses, long totalScore) {
         VBox playerBox = new VBox(10);
         playerBox.setAlignment(Pos.TOP_CENTER);
-        playerBox.setStyle(
-                "-fx-padding: 10; " +
-                        "-fx-border-color: #e0e0e0; " +
-                        "-fx-border-width: 1; " +
-                        "-fx-border-radius: 5; " +
-                        "-fx-background-radius: 5;"
-        );
+        playerBox.getStyleClass().add("player-card");
 
-        Label nameLabel = new Label(playerName);
-        nameLabel.setFont(Font.font("Arial", FontWeight.BOLD, 16));
-        nameLabel.setTextFill(Color.BLACK);
+        Label nameLabel = Styles.styled(new Label(playerName), "card-heading");
 
         VBox winsBox = createStatColumn("Wins", String.valueOf(wins));
         VBox lossesBox = createStatColumn("Losses", String.valueOf(losses));
@@ -235,13 +543,8 @@ public class StatisticsManager {
         VBox column = new VBox(5);
         column.setAlignment(Pos.CENTER);
 
-        Label labelNode = new Label(label);
-        labelNode.setFont(Font.font("Arial", FontWeight.BOLD, 14));
-        labelNode.setTextFill(Color.BLACK);
-
-        Label valueNode = new Label(value);
-        valueNode.setFont(Font.font("Arial", 14));
-        valueNode.setTextFill(Color.GRAY);
+        Label labelNode = Styles.styled(new Label(label), "stat-label");
+        Label valueNode = Styles.styled(new Label(value), "stat-value");
 
         column.getChildren().addAll(labelNode, valueNode);
         return column;
@@ -251,13 +554,8 @@ public class StatisticsManager {
         HBox row = new HBox(10);
         row.setAlignment(Pos.CENTER_LEFT);
 
-        Label labelNode = new Label(label + ":");
-        labelNode.setFont(Font.font("Arial", FontWeight.BOLD, 14));
-        labelNode.setTextFill(Color.BLACK);
-
-        Label valueNode = new Label(value);
-        valueNode.setFont(Font.font("Arial", 14));
-        valueNode.setTextFill(Color.GRAY);
+        Label labelNode = Styles.styled(new Label(label + ":"), "stat-label");
+        Label valueNode = Styles.styled(new Label(value), "stat-value");
 
         row.getChildren().addAll(labelNode, valueNode);
         return row;
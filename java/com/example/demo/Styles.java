@@ -0,0 +1,40 @@
+package com.example.demo;
+
+import javafx.css.PseudoClass;
+import javafx.scene.Node;
+
+// Look of the game, kept in the bundled wordle.css that ScreenRegistry adds to the app's one Scene.
+// Nodes get a style class once when they are built; tiles and keys then only flip pseudo-classes,
+// which restyles them from the already parsed stylesheet instead of parsing a fresh inline style
+// string on every change. Fonts come from the stylesheet too, so nodes share them rather than
+// each allocating its own.
+public final class Styles {
+    public static final String STYLESHEET = Styles.class.getResource("wordle.css").toExternalForm();
+
+    public static final PseudoClass EMPTY = PseudoClass.getPseudoClass("empty");
+    public static final PseudoClass FILLED = PseudoClass.getPseudoClass("filled");
+    public static final PseudoClass ABSENT = PseudoClass.getPseudoClass("absent");
+    public static final PseudoClass PRESENT = PseudoClass.getPseudoClass("present");
+    public static final PseudoClass CORRECT = PseudoClass.getPseudoClass("correct");
+
+    // Indexed by GuessScorer state
+    private static final PseudoClass[] SCORED = {ABSENT, PRESENT, CORRECT};
+
+    private Styles() {
+    }
+
+    public static <T extends Node> T styled(T node, String styleClass) {
+        node.getStyleClass().add(styleClass);
+        return node;
+    }
+
+    // Moves a tile or key to one of empty, filled (typed but unscored) or a scored state
+    public static void setState(Node node, boolean filled, int state) {
+        boolean unscored = state == BoardModel.UNSCORED;
+        node.pseudoClassStateChanged(EMPTY, unscored && !filled);
+        node.pseudoClassStateChanged(FILLED, unscored && filled);
+        for (int i = 0; i < SCORED.length; i++) {
+            node.pseudoClassStateChanged(SCORED[i], state == i);
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.example.demo;
 import javafx.application.HostServices;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -13,21 +12,24 @@ import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
-import javafx.stage.Stage;
 
 public class TutorialManager {
-    private Stage primaryStage;
-    private Scene previousScene;
+    public static final String SCREEN = "tutorial";
+
+    private final ScreenRegistry screens;
     private Main mainApplication;
 
-    public TutorialManager(Stage primaryStage, Main mainApplication) {
-        this.primaryStage = primaryStage;
+    public TutorialManager(ScreenRegistry screens, Main mainApplication) {
+        this.screens = screens;
         this.mainApplication = mainApplication;
+        screens.register(SCREEN, this::createTutorialLayout);
     }
 
     public void showTutorial() {
-        previousScene = primaryStage.getScene();
+        screens.show(SCREEN);
+    }
 
+    private VBox createTutorialLayout() {
         VBox tutorialLayout = new VBox(20);
         tutorialLayout.setAlignment(Pos.TOP_LEFT);
         tutorialLayout.setPadding(new Insets(30));
@@ -46,21 +48,7 @@ public class TutorialManager {
         VBox.setVgrow(spacer, Priority.ALWAYS);
 
         Button backButton = new Button("Back to Main Menu");
-        backButton.setStyle(
-                "-fx-background-color: #0095ff; " +
-                        "-fx-border-color: transparent; " +
-                        "-fx-border-width: 1px; " +
-                        "-fx-border-radius: 3px; " +
-                        "-fx-background-radius: 3px; " +
-                        "-fx-effect: innershadow(one-pass-box, rgba(255, 255, 255, 0.4), 0, 0, 0, 1); " +
-                        "-fx-text-fill: #fff; " +
-                        "-fx-font-family: -apple-system, system-ui, 'Segoe UI', 'Liberation Sans', sans-serif; " +
-                        "-fx-font-size: 13px; " +
-                        "-fx-font-weight: 400; " +
-                        "-fx-padding: 8px 0.8em; " +
-                        "-fx-cursor: hand; " +
-                        "-fx-alignment: center; "
-        );
+        backButton.getStyleClass().add("action-button");
 
         backButton.setOnAction(e -> returnToMainMenu());
 
@@ -74,14 +62,13 @@ public class TutorialManager {
                 backButton
         );
 
-        Scene tutorialScene = new Scene(tutorialLayout, 500, 800);
-        primaryStage.setScene(tutorialScene);
+        return tutorialLayout;
     }
 
     private VBox createInstructionsBox() {
         VBox instructionsBox = new VBox(10);
         instructionsBox.getChildren().addAll(
-                createBulletPoint("Each guess must be a valid 5-letter word."),
+                createBulletPoint("Each guess must be a valid word of the chosen length (5 letters unless changed on the menu)."),
                 createBulletPoint("The color of the tiles will change to show how close your guess was to the word.")
         );
         return instructionsBox;
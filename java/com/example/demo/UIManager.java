@@ -3,22 +3,26 @@ package com.example.demo;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 
-public class UIManager {
+public class UIManager implements GameListener {
     protected StatisticsManager statisticsManager;
     protected WordleGame wordleGame;
-    protected WordValidator wordValidator;
+    protected DictionaryRegistry dictionaries;
+    protected final ScreenRegistry screens;
     protected GridPane gridPane;
     protected GridPane keyboardLayout;
     protected Label statsLabel;
     protected VBox root;
-    protected final int wordLength = 5;
+    private static final int COMPACT_BOARD_LENGTH = 7;  // tiles shrink from this word length on
+    protected int wordLength = DictionaryRegistry.DEFAULT_LENGTH;
+    protected BoardModel board = new BoardModel(GameEngine.MAX_ATTEMPTS, wordLength);
+    protected Label[][] tiles;
+    protected final Button[] keys = new Button[26];  // indexed by letter
 
-    public UIManager(StatisticsManager statisticsManager, WordValidator wordValidator) {
+    public UIManager(StatisticsManager statisticsManager, DictionaryRegistry dictionaries, ScreenRegistry screens) {
         this.statisticsManager = statisticsManager;
-        this.wordValidator = wordValidator;
+        this.dictionaries = dictionaries;
+        this.screens = screens;
     }
 
     public void setWordleGame(WordleGame wordleGame) {
@@ -28,14 +32,11 @@ public class UIManager {
     protected VBox createBaseLayout(String title) {
         root = new VBox(20);
         root.setAlignment(Pos.CENTER);
-        root.setStyle("-fx-padding: 20; -fx-background-color: #ffffff;");
+        root.getStyleClass().add("game-screen");
 
-        Label titleLabel = new Label(title);
-        titleLabel.setFont(new Font("Arial Black", 36));
-        titleLabel.setTextFill(Color.BLACK);
+        Label titleLabel = Styles.styled(new Label(title), "title");
 
-        statsLabel = new Label();
-        statsLabel.setFont(new Font("Arial", 16));
+        statsLabel = Styles.styled(new Label(), "stats-label");
 
         root.getChildren().addAll(titleLabel);
 
@@ -47,15 +48,42 @@ public class UIManager {
         gridPane.setAlignment(Pos.CENTER);
         gridPane.setHgap(10);
         gridPane.setVgap(10);
+        createTiles();
+    }
+
+    // Sizes the board for words of the given length, replacing the tiles of a board already built
+    public void setWordLength(int wordLength) {
+        if (wordLength == this.wordLength) {
+            return;
+        }
+        board.reset();
+        render();  // returns the keyboard to unused before the old model is dropped
+        this.wordLength = wordLength;
+        board = new BoardModel(GameEngine.MAX_ATTEMPTS, wordLength);
+        if (gridPane != null) {
+            gridPane.getChildren().clear();
+            createTiles();
+        }
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
 
-        for (int i = 0; i < 6; i++) {
+    private void createTiles() {
+        if (wordLength >= COMPACT_BOARD_LENGTH) {
+            gridPane.getStyleClass().add("compact-board");
+        } else {
+            gridPane.getStyleClass().remove("compact-board");
+        }
+        tiles = new Label[board.getRows()][wordLength];
+        board.clearTiles();
+        for (int i = 0; i < board.getRows(); i++) {
             for (int j = 0; j < wordLength; j++) {
-                Label cell = new Label("");
-                cell.setMinSize(60, 60);
-                cell.setStyle("-fx-border-color: #d3d6da; -fx-border-width: 2px; -fx-background-color: #ffffff;");
-                cell.setAlignment(Pos.CENTER);
-                cell.setFont(new Font("Arial Black", 20));
+                Label cell = Styles.styled(new Label(""), "tile");
+                Styles.setState(cell, false, BoardModel.UNSCORED);
                 gridPane.add(cell, j, i);
+                tiles[i][j] = cell;
             }
         }
     }
@@ -72,43 +100,50 @@ public class UIManager {
                 "ZXCVBNM"
         };
 
+        board.clearKeys();
         for (int i = 0; i < rows.length; i++) {
             HBox rowBox = new HBox(5);
             rowBox.setAlignment(Pos.CENTER);
 
             for (int j = 0; j < rows[i].length(); j++) {
                 String letter = String.valueOf(rows[i].charAt(j));
-                Button key = new Button(letter);
+                Button key = Styles.styled(new Button(letter), "key");
                 key.setId(letter);
-                key.setMinSize(50, 60);
-                key.setStyle("-fx-background-color: #d3d6da; -fx-text-fill: black; -fx-font-weight: bold; -fx-font-size: 16px;");
 
                 rowBox.getChildren().add(key);
+                keys[WordCodec.letterIndex(letter.charAt(0))] = key;
             }
 
             keyboardLayout.add(rowBox, 0, i);
         }
     }
 
-    public void updateGrid(int row, int col, String letter) {
-        Label cell = (Label) gridPane.getChildren().get(row * wordLength + col);
-        cell.setText(letter);
+    @Override
+    public void onLetterChanged(GameState state, int row, int col, String letter) {
+        updateGrid(row, col, letter);
     }
 
-    public void updateGuessFeedback(int row, int col, char guessChar, char correctChar) {
-        Label cell = (Label) gridPane.getChildren().get(row * wordLength + col);
-        String style = "-fx-border-color: #d3d6da; -fx-border-width: 2px;";
+    @Override
+    public void onGuessScored(GameState state, GuessResult result) {
+        board.scoreRow(result.row(), result.guess(), result.pattern());
+        render();
+    }
 
-        if (guessChar == correctChar) {
-            style += " -fx-background-color: #538d4e;"; // Green for correct position
-        } else if (wordleGame.getSecretWord().indexOf(guessChar) >= 0) {
-            style += " -fx-background-color: #b59f3b;"; // Yellow for correct letter, wrong position
-        } else {
-            style += " -fx-background-color: #3a3a3c;"; // Gray for incorrect letter
+    @Override
+    public void onGuessRejected(GameState state, GuessResult result) {
+        if (result.outcome() != GuessResult.Outcome.INCOMPLETE) {
+            showAlert(result.message());
         }
+    }
 
-        cell.setStyle(style);
-        cell.setTextFill(Color.web("#FFFFFF"));
+    public void updateGrid(int row, int col, String letter) {
+        board.setLetter(row, col, letter.isEmpty() ? '\0' : letter.charAt(0));
+        render();
+    }
+
+    public void updateGuessFeedback(int row, int col, int state) {
+        board.setTileState(row, col, state);
+        render();
     }
 
     public void showAlert(String message) {
@@ -120,37 +155,37 @@ public class UIManager {
         alert.showAndWait();
     }
 
-    public void updateKeyboardFeedback(String guess, String secretWord) {
+    // A key keeps the best state its letter has earned in any guess so far
+    public void updateKeyboardFeedback(String guess, int pattern) {
         for (int i = 0; i < guess.length(); i++) {
-            char letter = guess.charAt(i);
-            Button key = findKeyButton(letter);
-            if (key != null) {
-                String style = "-fx-text-fill: white;";
-                if (secretWord.charAt(i) == letter) {
-                    style += "-fx-background-color: #538d4e;"; // Green
-                } else if (secretWord.contains(String.valueOf(letter))) {
-                    style += "-fx-background-color: #b59f3b;"; // Yellow
-                } else {
-                    style += "-fx-background-color: #3a3a3c;"; // Gray
-                }
-                key.setStyle(style);
-            }
+            board.upgradeKey(guess.charAt(i), GuessScorer.stateAt(pattern, i));
         }
+        render();
     }
 
-    private Button findKeyButton(char letter) {
-        for (int i = 0; i < keyboardLayout.getChildren().size(); i++) {
-            HBox row = (HBox) keyboardLayout.getChildren().get(i);
-            for (javafx.scene.Node node : row.getChildren()) {
-                if (node instanceof Button) {
-                    Button key = (Button) node;
-                    if (key.getText().charAt(0) == letter) {
-                        return key;
-                    }
-                }
-            }
+    // Pushes only the tiles and keys that changed since the last render to the scene graph
+    protected void render() {
+        WordleEvents.FeedbackRender event = new WordleEvents.FeedbackRender();
+        event.begin();
+        int tilesRendered = board.drainDirtyTiles(this::renderTile);
+        int keysRendered = board.drainDirtyKeys(this::renderKey);
+        if (event.shouldCommit()) {
+            event.tiles = tilesRendered;
+            event.keys = keysRendered;
+            event.commit();
         }
-        return null;
+    }
+
+    private void renderTile(int tile) {
+        Label cell = tiles[tile / wordLength][tile % wordLength];
+        char letter = board.letterAt(tile);
+        cell.setText(letter == '\0' ? "" : String.valueOf(letter));
+        Styles.setState(cell, letter != '\0', board.tileState(tile));
+    }
+
+    private void renderKey(int letter) {
+        Button key = keys[letter];
+        Styles.setState(key, false, board.keyState(letter));
     }
 
     public void updateStats(String stats, boolean isVisible) {
@@ -158,7 +193,6 @@ public class UIManager {
             statsLabel.setText(stats);
             statsLabel.setVisible(isVisible);
             statsLabel.setManaged(isVisible);
-            System.out.println("Updated stats: " + stats);
         }
     }
 
@@ -171,20 +205,19 @@ public class UIManager {
         statsLabel.setManaged(true);
     }
 
-    protected void resetUI() {
-        gridPane.getChildren().clear();
-        initializeGridPane();
+    // Empties the board for a GameReplay, which then fills it through the GameListener methods
+    public void showReplay(GameRecord record) {
+        resetUI();
+    }
 
-        keyboardLayout.getChildren().clear();
-        initializeKeyboard();
+    // Clears the board and keyboard of the existing screen for the next game
+    protected void resetUI() {
+        board.reset();
+        render();
+        gridPane.setDisable(false);
+        keyboardLayout.setDisable(false);
 
         statsLabel.setVisible(true);
         statsLabel.setManaged(true);
-
-        root.getChildren().clear();
-        Label titleLabel = new Label("WORDLE");
-        titleLabel.setFont(new Font("Arial Black", 36));
-        titleLabel.setTextFill(Color.BLACK);
-        root.getChildren().addAll(titleLabel, gridPane, keyboardLayout, statsLabel);
     }
-}
\ No newline at end of file
+}
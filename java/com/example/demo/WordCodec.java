@@ -0,0 +1,114 @@
+package com.example.demo;
+
+// Packs A-Z words into an int, 5 bits per letter with the first letter in the lowest bits.
+// Words of up to 12 letters pack the same way into a long; a word short enough for an int has the
+// same code either way. Upper and lower case input encode to the same code.
+public final class WordCodec {
+    public static final int BITS_PER_LETTER = 5;
+    public static final int MAX_LETTERS = 6;  // 30 bits, so every valid code is non-negative
+    public static final int MAX_LONG_LETTERS = 12;  // 60 bits
+    public static final int INVALID = -1;
+    private static final int LETTER_MASK = 0x1F;
+
+    private WordCodec() {
+    }
+
+    // Returns 0-25 for A-Z / a-z, or -1 for anything else
+    public static int letterIndex(char c) {
+        int index = (c | 0x20) - 'a';
+        return index >= 0 && index < 26 ? index : -1;
+    }
+
+    public static int encode(CharSequence word) {
+        int length = word.length();
+        if (length == 0 || length > MAX_LETTERS) {
+            return INVALID;
+        }
+        int code = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = letterIndex(word.charAt(i));
+            if (letter < 0) {
+                return INVALID;
+            }
+            code |= letter << (i * BITS_PER_LETTER);
+        }
+        return code;
+    }
+
+    public static int encode(char[] word) {
+        return encode(word, 0, word.length);
+    }
+
+    public static int encode(char[] word, int offset, int length) {
+        if (length == 0 || length > MAX_LETTERS) {
+            return INVALID;
+        }
+        int code = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = letterIndex(word[offset + i]);
+            if (letter < 0) {
+                return INVALID;
+            }
+            code |= letter << (i * BITS_PER_LETTER);
+        }
+        return code;
+    }
+
+    public static long encodeLong(CharSequence word) {
+        int length = word.length();
+        if (length == 0 || length > MAX_LONG_LETTERS) {
+            return INVALID;
+        }
+        long code = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = letterIndex(word.charAt(i));
+            if (letter < 0) {
+                return INVALID;
+            }
+            code |= (long) letter << (i * BITS_PER_LETTER);
+        }
+        return code;
+    }
+
+    public static long encodeLong(char[] word) {
+        if (word.length == 0 || word.length > MAX_LONG_LETTERS) {
+            return INVALID;
+        }
+        long code = 0;
+        for (int i = 0; i < word.length; i++) {
+            int letter = letterIndex(word[i]);
+            if (letter < 0) {
+                return INVALID;
+            }
+            code |= (long) letter << (i * BITS_PER_LETTER);
+        }
+        return code;
+    }
+
+    // Whether the code can stand for a word of exactly this many letters. Codes carry no length and
+    // A is 0, so a shorter word encodes the same as itself padded with A's ("PIZZ" as "PIZZA"): text
+    // must have its length checked before it is encoded, as the CharSequence overloads do.
+    public static boolean fits(long code, int length) {
+        if (code < 0 || length < 1 || length > MAX_LONG_LETTERS || code >>> (length * BITS_PER_LETTER) != 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (letterAt(code, i) >= 26) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static int letterAt(long code, int position) {
+        return (int) (code >>> (position * BITS_PER_LETTER)) & LETTER_MASK;
+    }
+
+    public static String decode(long code, int length) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) ('A' + letterAt(code, i));
+        }
+        return new String(letters);
+    }
+}
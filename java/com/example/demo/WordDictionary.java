@@ -0,0 +1,18 @@
+package com.example.demo;
+
+// Read-only view of a dictionary of packed word codes (see WordCodec). Codes are passed as longs
+// so one interface covers every word length; a dictionary stores them in the narrowest type that fits.
+public interface WordDictionary {
+
+    int size();
+
+    long codeAt(int index);
+
+    boolean contains(long code);
+
+    // Index of code in codeAt order, or -1 when absent
+    int indexOf(long code);
+
+    // Approximate bytes held for the dictionary, heap or mapped
+    long footprintBytes();
+}
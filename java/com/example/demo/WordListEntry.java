@@ -0,0 +1,50 @@
+package com.example.demo;
+
+// One line of a text word list, read the same way by WordValidator and DictionaryCompiler: a word,
+// optionally followed by whitespace and a non-negative integer frequency (1 when absent). Further
+// columns are ignored. Blank lines and lines starting with '#' hold no entry. When a word is listed
+// more than once, both readers keep the entry from its first line.
+public record WordListEntry(String word, int frequency, boolean hasFrequency) {
+
+    // null for blank and comment lines; an unreadable frequency is an IllegalArgumentException
+    public static WordListEntry parse(String line, int lineNumber) {
+        int start = skipWhitespace(line, 0);
+        if (start == line.length() || line.charAt(start) == '#') {
+            return null;
+        }
+        int end = skipWord(line, start);
+        String word = line.substring(start, end);
+        int frequencyStart = skipWhitespace(line, end);
+        if (frequencyStart == line.length()) {
+            return new WordListEntry(word, 1, false);
+        }
+        String frequency = line.substring(frequencyStart, skipWord(line, frequencyStart));
+        return new WordListEntry(word, parseFrequency(frequency, lineNumber), true);
+    }
+
+    private static int parseFrequency(String value, int lineNumber) {
+        try {
+            int frequency = Integer.parseInt(value);
+            if (frequency < 0) {
+                throw new IllegalArgumentException("Negative frequency on line " + lineNumber);
+            }
+            return frequency;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid frequency on line " + lineNumber + ": " + value, e);
+        }
+    }
+
+    private static int skipWhitespace(String line, int index) {
+        while (index < line.length() && Character.isWhitespace(line.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipWord(String line, int index) {
+        while (index < line.length() && !Character.isWhitespace(line.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+}
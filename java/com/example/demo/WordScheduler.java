@@ -0,0 +1,180 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Deals secret words so that none repeats until the whole dictionary has come up. Each cycle is a
+// seeded pseudo-random permutation of the word indices, computed on demand by a small Feistel
+// network with cycle walking, so no shuffled copy of the dictionary is kept and a draw costs a few
+// multiplications. The whole state is a Cursor of 16 bytes: the seed, the cycle number and the
+// position within it. A scheduler belongs to one player and is not thread-safe; threads that draw
+// words each use their own, so they never contend.
+public class WordScheduler {
+    public static final String FILE_PROPERTY = "wordle.schedule.file";
+    private static final int ROUNDS = 4;
+
+    private final WordValidator wordValidator;
+    private final int size;
+    private long seed;
+    private int cycle;
+    private int position;
+    private Permutation permutation;
+
+    public record Cursor(long seed, int cycle, int position) {
+        public static final int BYTES = Long.BYTES + 2 * Integer.BYTES;
+
+        public void writeTo(ByteBuffer buffer) {
+            buffer.putLong(seed).putInt(cycle).putInt(position);
+        }
+
+        public static Cursor readFrom(ByteBuffer buffer) {
+            return new Cursor(buffer.getLong(), buffer.getInt(), buffer.getInt());
+        }
+    }
+
+    public WordScheduler(WordValidator wordValidator) {
+        this(wordValidator, new SplittableRandom().nextLong());
+    }
+
+    // Same seed, same sequence of words, for tests and shared challenges
+    public WordScheduler(WordValidator wordValidator, long seed) {
+        this(wordValidator, new Cursor(seed, 0, 0));
+    }
+
+    // Resumes a saved cursor; if the dictionary has shrunk past it, a new cycle starts
+    public WordScheduler(WordValidator wordValidator, Cursor cursor) {
+        this.wordValidator = wordValidator;
+        this.size = wordValidator.getWordCount();
+        if (size == 0) {
+            throw new IllegalStateException("No words available");
+        }
+        this.seed = cursor.seed();
+        this.cycle = cursor.cycle();
+        this.position = cursor.position();
+        if (position < 0 || position >= size) {
+            cycle++;
+            position = 0;
+        }
+        permutation = new Permutation(size, cycleKey(seed, cycle));
+    }
+
+    public long nextWordCode() {
+        long code = wordValidator.getWordCode(permutation.apply(position));
+        if (++position == size) {
+            cycle++;
+            position = 0;
+            permutation = new Permutation(size, cycleKey(seed, cycle));
+        }
+        return code;
+    }
+
+    public String nextWord() {
+        return WordCodec.decode(nextWordCode(), wordValidator.getWordLength());
+    }
+
+    // Where the next draw comes from; a scheduler built from it continues the same sequence
+    public Cursor getCursor() {
+        return new Cursor(seed, cycle, position);
+    }
+
+    public int getWordLength() {
+        return wordValidator.getWordLength();
+    }
+
+    public static Path defaultPath() {
+        String configured = System.getProperty(FILE_PROPERTY);
+        return configured != null ? Path.of(configured) : Path.of(System.getProperty("user.home"), ".wordle", "schedule.bin");
+    }
+
+    // Cursors by word length, as written by save(); a missing file gives none
+    public static Map<Integer, Cursor> load(Path path) throws IOException {
+        Map<Integer, Cursor> cursors = new HashMap<>();
+        if (!Files.isRegularFile(path)) {
+            return cursors;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.BIG_ENDIAN);
+        while (buffer.remaining() >= 1 + Cursor.BYTES) {
+            int wordLength = buffer.get();
+            cursors.put(wordLength, Cursor.readFrom(buffer));
+        }
+        return cursors;
+    }
+
+    // Replaces the file in one move so a crash leaves either the old cursors or the new ones
+    public static void save(Path path, Map<Integer, Cursor> cursors) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(cursors.size() * (1 + Cursor.BYTES)).order(ByteOrder.BIG_ENDIAN);
+        cursors.forEach((wordLength, cursor) -> {
+            buffer.put(wordLength.byteValue());
+            cursor.writeTo(buffer);
+        });
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temp, buffer.array());
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static long cycleKey(long seed, int cycle) {
+        return mix64(seed + cycle * 0x9E3779B97F4A7C15L);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    // Bijection on [0, size): a balanced Feistel network over the smallest even number of bits that
+    // covers size, applied again while the result falls outside. Less than three quarters of that
+    // domain lies outside, so an index takes fewer than four passes on average
+    private static final class Permutation {
+        private final int size;
+        private final int halfBits;
+        private final int halfMask;
+        private final int[] roundKeys = new int[ROUNDS];
+
+        Permutation(int size, long key) {
+            this.size = size;
+            int bits = Math.max(32 - Integer.numberOfLeadingZeros(size - 1), 2);
+            this.halfBits = (bits + 1) / 2;
+            this.halfMask = (1 << halfBits) - 1;
+            for (int i = 0; i < ROUNDS; i++) {
+                key = mix64(key + 0x9E3779B97F4A7C15L);
+                roundKeys[i] = (int) key;
+            }
+        }
+
+        int apply(int index) {
+            int value = index;
+            do {
+                value = encrypt(value);
+            } while (value >= size);
+            return value;
+        }
+
+        private int encrypt(int value) {
+            int left = value >>> halfBits;
+            int right = value & halfMask;
+            for (int roundKey : roundKeys) {
+                int next = left ^ (round(right, roundKey) >>> (32 - halfBits));
+                left = right;
+                right = next;
+            }
+            return (left << halfBits) | right;
+        }
+
+        private static int round(int value, int key) {
+            int h = (value ^ key) * 0x9E3779B1;
+            return h ^ (h >>> 15);
+        }
+    }
+}
@@ -1,51 +1,288 @@
 package com.example.demo;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Random;
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
+// Dictionary of one word length: validates guesses, picks secrets and indexes the words for
+// candidate filtering. Words of up to WordCodec.MAX_LETTERS letters are held as int codes, longer
+// ones as long codes. DictionaryRegistry keeps one per length in use. A word list line may carry a
+// frequency after the word ("CRANE 1234"); with frequencies, secrets can be drawn by DifficultyTier.
 public class WordValidator {
-    private Set<String> validWords;
-    private List<String> wordList;  // New list to store words for random selection
-    private Random random;  // Random object for selecting random words
+    public static final int DEFAULT_WORD_LENGTH = 5;
+    private static final int EXPECTED_WORD_COUNT = 4096;
+    private static final String WORD_LIST_RESOURCE = "%d-letter-words-list.txt";
+    // Points at a file produced by DictionaryCompiler; when unset the bundled text list is parsed.
+    // The plain property is for DEFAULT_WORD_LENGTH, other lengths append it, e.g. "wordle.dictionary.6".
+    // The compiled format stores int codes, so it only covers words of up to WordCodec.MAX_LETTERS letters.
+    public static final String COMPILED_DICTIONARY_PROPERTY = "wordle.dictionary";
+
+    private final int wordLength;
+    private WordDictionary words;  // Packed codes for lookups and random selection
+    private CandidateIndex candidateIndex;  // Position/letter bitsets for narrowing candidates
+    private int[] frequencies;  // by word index, null when the source has none
+    private final Map<DifficultyTier, AliasTable> tierTables = new EnumMap<>(DifficultyTier.class);
 
     public WordValidator() {
-        validWords = new HashSet<>();
-        wordList = new ArrayList<>();  // Initialize the word list
-        random = new Random();  // Initialize the random object
-        loadValidWords();
+        this(DEFAULT_WORD_LENGTH);
+    }
+
+    public WordValidator(int wordLength) {
+        this(wordLength, compiledDictionaryPath(wordLength));
+    }
+
+    public WordValidator(Path compiledDictionary) {
+        this(0, compiledDictionary);
+    }
+
+    // A word length of 0 takes the length of the compiled dictionary
+    private WordValidator(int wordLength, Path compiledDictionary) {
+        if (compiledDictionary == null && (wordLength < 1 || wordLength > WordCodec.MAX_LONG_LETTERS)) {
+            throw new IllegalArgumentException("Word length must be between 1 and " + WordCodec.MAX_LONG_LETTERS);
+        }
+        WordleEvents.DictionaryLoad event = new WordleEvents.DictionaryLoad();
+        event.begin();
+        if (compiledDictionary != null) {
+            MappedWordDictionary dictionary = loadCompiledWords(compiledDictionary, wordLength);
+            this.wordLength = dictionary.getWordLength();
+            words = dictionary;
+            if (dictionary.hasFrequencies()) {
+                frequencies = new int[dictionary.size()];
+                for (int i = 0; i < frequencies.length; i++) {
+                    frequencies[i] = dictionary.frequencyAt(i);
+                }
+            }
+        } else {
+            this.wordLength = wordLength;
+            words = loadValidWords(wordLength);
+        }
+        candidateIndex = new CandidateIndex(this);
+        buildTierTables();
+        GameMetrics.dictionaryLoaded(this);
+        if (event.shouldCommit()) {
+            event.source = compiledDictionary != null ? compiledDictionary.toString() : wordListResource(wordLength);
+            event.words = words.size();
+            event.commit();
+        }
+    }
+
+    // Null when no compiled dictionary is configured for the length, or the length is too long for one
+    public static Path compiledDictionaryPath(int wordLength) {
+        String path = System.getProperty(COMPILED_DICTIONARY_PROPERTY + "." + wordLength);
+        if ((path == null || path.isBlank()) && wordLength == DEFAULT_WORD_LENGTH) {
+            path = System.getProperty(COMPILED_DICTIONARY_PROPERTY);
+        }
+        if (path == null || path.isBlank()) {
+            return null;
+        }
+        if (wordLength > WordCodec.MAX_LETTERS) {
+            System.err.println("Ignoring " + COMPILED_DICTIONARY_PROPERTY + "." + wordLength
+                    + ": compiled dictionaries hold words of at most " + WordCodec.MAX_LETTERS + " letters");
+            return null;
+        }
+        return Path.of(path);
+    }
+
+    // Whether words of this length can be loaded, from a compiled dictionary or the bundled lists
+    public static boolean hasWordList(int wordLength) {
+        return compiledDictionaryPath(wordLength) != null
+                || WordValidator.class.getClassLoader().getResource(wordListResource(wordLength)) != null;
+    }
+
+    private static String wordListResource(int wordLength) {
+        return String.format(WORD_LIST_RESOURCE, wordLength);
     }
 
-    private void loadValidWords() {
+    private static MappedWordDictionary loadCompiledWords(Path path, int wordLength) {
         try {
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream("5-letter-words-list.txt");
-            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
+            MappedWordDictionary dictionary = MappedWordDictionary.open(path);
+            if (wordLength != 0 && dictionary.getWordLength() != wordLength) {
+                throw new IllegalStateException("Dictionary " + path + " holds " + dictionary.getWordLength()
+                        + "-letter words, expected " + wordLength);
+            }
+            return dictionary;
+        } catch (IOException e) {
+            throw new IllegalStateException("Error loading compiled dictionary " + path, e);
+        }
+    }
+
+    // Ranks the words by frequency once, so drawing a secret of any tier never sorts or scans
+    private void buildTierTables() {
+        if (frequencies == null || words.size() == 0) {
+            return;
+        }
+        // Each entry is (inverted frequency << 32 | index) so one primitive sort ranks the most frequent first
+        long[] ranked = new long[frequencies.length];
+        for (int i = 0; i < ranked.length; i++) {
+            ranked[i] = ((long) (Integer.MAX_VALUE - frequencies[i]) << 32) | i;
+        }
+        Arrays.sort(ranked);
+        int[] byFrequency = new int[ranked.length];
+        for (int i = 0; i < ranked.length; i++) {
+            byFrequency[i] = (int) ranked[i];
+        }
+        for (DifficultyTier tier : DifficultyTier.values()) {
+            tierTables.put(tier, tier.buildTable(byFrequency, index -> frequencies[index]));
+        }
+    }
+
+    private WordDictionary loadValidWords(int wordLength) {
+        String resource = wordListResource(wordLength);
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource);
+        if (inputStream == null) {
+            throw new IllegalStateException("Word list not found: " + resource);
+        }
+        PackedWordSet intCodes = wordLength <= WordCodec.MAX_LETTERS ? new PackedWordSet(EXPECTED_WORD_COUNT) : null;
+        LongWordSet longCodes = intCodes == null ? new LongWordSet(EXPECTED_WORD_COUNT) : null;
+        int[] wordFrequencies = new int[EXPECTED_WORD_COUNT];
+        int count = 0;
+        boolean hasFrequencies = false;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
             String line;
+            int lineNumber = 0;
             while ((line = reader.readLine()) != null) {
-                String word = line.trim().toUpperCase();
-                validWords.add(word);
-                wordList.add(word);  // Add the word to the list as well
+                lineNumber++;
+                WordListEntry entry;
+                try {
+                    entry = WordListEntry.parse(line, lineNumber);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalStateException(e.getMessage() + " of " + resource, e);
+                }
+                if (entry == null || entry.word().length() != wordLength) {
+                    continue;
+                }
+                long code = WordCodec.encodeLong(entry.word());
+                if (code < 0) {
+                    continue;
+                }
+                // The first line of a word wins, as in DictionaryCompiler
+                boolean added = intCodes != null ? intCodes.add((int) code) : longCodes.add(code);
+                if (added) {
+                    if (count == wordFrequencies.length) {
+                        wordFrequencies = Arrays.copyOf(wordFrequencies, count * 2);
+                    }
+                    wordFrequencies[count++] = entry.frequency();
+                    hasFrequencies |= entry.hasFrequency();
+                }
             }
-            reader.close();
-        } catch (Exception e) {
-            System.err.println("Error loading valid words: " + e.getMessage());
+        } catch (IOException e) {
+            throw new IllegalStateException("Error loading valid words from " + resource, e);
+        }
+        if (hasFrequencies) {
+            frequencies = Arrays.copyOf(wordFrequencies, count);
         }
+        if (intCodes != null) {
+            intCodes.trimToSize();
+            return intCodes;
+        }
+        longCodes.trimToSize();
+        return longCodes;
+    }
+
+    public boolean isValidWord(CharSequence word) {
+        return word.length() == wordLength && isValidWord(WordCodec.encodeLong(word));
     }
 
-    public boolean isValidWord(String word) {
-        return validWords.contains(word.toUpperCase());
+    public boolean isValidWord(char[] word) {
+        return word.length == wordLength && isValidWord(WordCodec.encodeLong(word));
     }
 
-    // New method to get a random word
+    // The code is read as exactly getWordLength() letters (see WordCodec.fits); one that cannot be is
+    // rejected before the lookup, whatever the dictionary holds
+    public boolean isValidWord(long code) {
+        WordleEvents.WordLookup event = new WordleEvents.WordLookup();
+        event.begin();
+        boolean valid = WordCodec.fits(code, wordLength) && words.contains(code);
+        if (event.shouldCommit()) {
+            event.valid = valid;
+            event.commit();
+        }
+        return valid;
+    }
+
+    // Independent draws from the calling thread's own generator, so threads never contend; repeats are
+    // possible, a WordScheduler deals every word once before any comes up again
     public String getRandomWord() {
-        if (wordList.isEmpty()) {
+        return WordCodec.decode(getRandomWordCode(), wordLength);
+    }
+
+    public long getRandomWordCode() {
+        if (words.size() == 0) {
             throw new IllegalStateException("No words available");
         }
-        return wordList.get(random.nextInt(wordList.size()));
+        return words.codeAt(ThreadLocalRandom.current().nextInt(words.size()));
+    }
+
+    // A secret from one difficulty tier in O(1); uniform over all words when there are no frequencies
+    public String getRandomWord(DifficultyTier tier) {
+        return WordCodec.decode(words.codeAt(getRandomWordIndex(tier, ThreadLocalRandom.current())), wordLength);
+    }
+
+    public int getRandomWordIndex(DifficultyTier tier, RandomGenerator random) {
+        AliasTable table = tierTables.get(tier);
+        if (table != null) {
+            return table.sample(random);
+        }
+        if (words.size() == 0) {
+            throw new IllegalStateException("No words available");
+        }
+        return random.nextInt(words.size());
+    }
+
+    public boolean hasFrequencies() {
+        return frequencies != null;
+    }
+
+    // Relative frequency of the word at index, 1 for every word when the source has none
+    public int getFrequency(int index) {
+        if (index < 0 || index >= words.size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + words.size());
+        }
+        return frequencies != null ? frequencies[index] : 1;
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    public int getWordCount() {
+        return words.size();
+    }
+
+    public long getWordCode(int index) {
+        return words.codeAt(index);
+    }
+
+    // Index of a packed word in getWordCode order, or -1 if it is not in the dictionary
+    public int indexOf(long code) {
+        return words.indexOf(code);
+    }
+
+    // Bytes held by the word list and the candidate index and tier tables built from it
+    public long getFootprintBytes() {
+        long bytes = words.footprintBytes() + candidateIndex.footprintBytes();
+        if (frequencies != null) {
+            bytes += (long) frequencies.length * Integer.BYTES;
+        }
+        for (AliasTable table : tierTables.values()) {
+            bytes += table.footprintBytes();
+        }
+        return bytes;
+    }
+
+    public CandidateIndex getCandidateIndex() {
+        return candidateIndex;
+    }
+
+    public String getWord(int index) {
+        return WordCodec.decode(words.codeAt(index), wordLength);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.example.demo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+// Connection to a WordleServer used by the JavaFX client. Messages are read on a daemon thread
+// and handed to the listener there; UI code must hop to the FX thread itself.
+public class WordleClient {
+    private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+
+    public interface Listener {
+        void onMessage(String command, String argument);
+
+        void onDisconnected();
+    }
+
+    private final Socket socket;
+    private final OutputStream output;
+    private final Listener listener;
+    private volatile boolean closed;
+
+    private WordleClient(Socket socket, Listener listener) throws IOException {
+        this.socket = socket;
+        this.output = socket.getOutputStream();
+        this.listener = listener;
+    }
+
+    public static WordleClient connect(String host, int port, Listener listener) throws IOException {
+        Socket socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+        WordleClient client = new WordleClient(socket, listener);
+        Thread reader = new Thread(client::readLoop, "wordle-client");
+        reader.setDaemon(true);
+        reader.start();
+        return client;
+    }
+
+    public synchronized void send(String line) {
+        if (closed) {
+            return;
+        }
+        try {
+            output.write((line + "\n").getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+        } catch (IOException e) {
+            System.err.println("Error sending to Wordle server: " + e.getMessage());
+            close();
+        }
+    }
+
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            System.err.println("Error closing connection: " + e.getMessage());
+        }
+    }
+
+    private void readLoop() {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    listener.onMessage(WordleProtocol.command(line), WordleProtocol.argument(line));
+                }
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                System.err.println("Connection to Wordle server lost: " + e.getMessage());
+            }
+        }
+        closed = true;
+        listener.onDisconnected();
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.Timespan;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+// JDK Flight Recorder events for the places where the game spends time. Events cost next to nothing
+// while no recording has them enabled. The bundled wordle.jfc turns them on with thresholds suited
+// to continuous recording; setting RECORDING_PROPERTY to a file path starts such a recording at
+// launch and dumps it there on exit. Or pass the profile to the JVM:
+//   -XX:StartFlightRecording:settings=/path/to/wordle.jfc,filename=wordle.jfr
+public final class WordleEvents {
+    public static final String RECORDING_PROPERTY = "wordle.jfr";
+    private static final String SETTINGS_RESOURCE = "wordle.jfc";
+
+    private WordleEvents() {
+    }
+
+    @Name("com.example.demo.DictionaryLoad")
+    @Label("Dictionary Load")
+    @Category("Wordle")
+    @Description("Word list read and indexed by WordValidator")
+    public static final class DictionaryLoad extends Event {
+        @Label("Source")
+        String source;
+
+        @Label("Words")
+        int words;
+    }
+
+    @Name("com.example.demo.WordLookup")
+    @Label("Word Lookup")
+    @Category("Wordle")
+    @Description("One WordValidator.isValidWord check")
+    public static final class WordLookup extends Event {
+        @Label("Valid")
+        boolean valid;
+    }
+
+    @Name("com.example.demo.Guess")
+    @Label("Guess")
+    @Category("Wordle")
+    @Description("One submitted guess, from the Enter key to the end of scoring and rendering")
+    public static final class Guess extends Event {
+        @Label("Mode")
+        String mode;
+
+        @Label("Attempt")
+        int attempt;
+
+        @Label("Outcome")
+        String outcome;
+    }
+
+    @Name("com.example.demo.FeedbackRender")
+    @Label("Feedback Render")
+    @Category("Wordle")
+    @Description("Dirty tiles and keys pushed to the scene graph")
+    public static final class FeedbackRender extends Event {
+        @Label("Tiles")
+        int tiles;
+
+        @Label("Keys")
+        int keys;
+    }
+
+    @Name("com.example.demo.ScreenSwitch")
+    @Label("Screen Switch")
+    @Category("Wordle")
+    @Description("ScreenRegistry swapping the root of the scene")
+    public static final class ScreenSwitch extends Event {
+        @Label("Screen")
+        String screen;
+
+        @Label("Built")
+        @Description("The screen had to be built for this switch")
+        boolean built;
+    }
+
+    @Name("com.example.demo.StatisticsUpdate")
+    @Label("Statistics Update")
+    @Category("Wordle")
+    @Description("One GameOutcome applied by StatisticsManager")
+    public static final class StatisticsUpdate extends Event {
+        @Label("Type")
+        String type;
+
+        @Label("Mode")
+        String mode;
+
+        @Label("Won")
+        boolean won;
+    }
+
+    @Name("com.example.demo.Startup")
+    @Label("Startup")
+    @Category("Wordle")
+    @Description("Startup milestones from StartupMetrics, measured from the start of the process")
+    public static final class Startup extends Event {
+        @Label("First Frame")
+        @Timespan(Timespan.NANOSECONDS)
+        long firstFrame;
+
+        @Label("Interactive")
+        @Timespan(Timespan.NANOSECONDS)
+        long interactive;
+    }
+
+    @Name("com.example.demo.StartupStage")
+    @Label("Startup Stage")
+    @Category("Wordle")
+    @Description("One background loading step timed by StartupMetrics")
+    public static final class StartupStage extends Event {
+        @Label("Stage")
+        String stage;
+
+        @Label("Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long time;
+    }
+
+    // Starts a recording with the bundled settings if RECORDING_PROPERTY is set; null otherwise
+    public static Recording startConfiguredRecording() {
+        String destination = System.getProperty(RECORDING_PROPERTY);
+        if (destination == null || destination.isBlank()) {
+            return null;
+        }
+        try {
+            Recording recording = new Recording(loadSettings());
+            recording.setName("Wordle");
+            recording.setMaxAge(Duration.ofHours(1));
+            recording.setDestination(Path.of(destination));
+            recording.setDumpOnExit(true);
+            recording.start();
+            return recording;
+        } catch (IOException | ParseException e) {
+            System.err.println("Flight recording not started: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public static Configuration loadSettings() throws IOException, ParseException {
+        InputStream settings = WordleEvents.class.getResourceAsStream(SETTINGS_RESOURCE);
+        if (settings == null) {
+            throw new IOException("Recording settings not found: " + SETTINGS_RESOURCE);
+        }
+        try (InputStreamReader reader = new InputStreamReader(settings, StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+}
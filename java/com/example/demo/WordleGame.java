@@ -1,38 +1,57 @@
 package com.example.demo;
 
-import java.util.Random;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PrimitiveIterator;
 
+// Connects the UI managers, statistics and role handling to the headless GameEngine.
+// The UI manager of the current mode is registered as the engine's listener.
 public class WordleGame {
+    private static final double REPLAY_SPEED = 1.5;
 
-    private boolean isGameWon;
-    private String secretWord;
-    private int attempts;
-    private int currentRow;
-    private StringBuilder currentGuess;
+    private final GameEngine engine;
+    private GameState state;  // null between multiplayer rounds, until a word is set
     private SinglePlayerUIManager singlePlayerUIManager;
     private MultiPlayerUIManager multiPlayerUIManager;
+    private UIManager activeUIManager;
     private StatisticsManager statisticsManager;
-    private WordValidator wordValidator;
-    private boolean gameCompleted;
+    private final DictionaryRegistry dictionaries;
+    private int wordLength;  // of the next single-player or local multiplayer game
+    private final Map<Integer, WordScheduler> schedulers = new HashMap<>();  // single-player secrets by word length
+    private Map<Integer, WordScheduler.Cursor> savedCursors = Map.of();
+    private DifficultyTier difficulty;  // null: every word in turn, from the schedule
+    private boolean hardMode;
     private boolean isMultiplayerMode;
-    private boolean gameOver;
     private Main mainApplication;
-    private int currentCol;
-    private int player1CurrentCol;
-    private int player2CurrentCol;
-    private static final int[] SCORES = {100, 90, 80, 70, 60, 50};
-    private int score;
     private MultiplayerRoleManager roleManager;
+    private GameRecordWriter gameRecords;  // null when games are not recorded
+    private GameRecord lastRecord;
 
     public WordleGame(StatisticsManager statisticsManager, WordValidator wordValidator) {
+        this(statisticsManager, new DictionaryRegistry(wordValidator));
+    }
+
+    public WordleGame(StatisticsManager statisticsManager, DictionaryRegistry dictionaries) {
         this.statisticsManager = statisticsManager;
-        this.wordValidator = wordValidator;
+        this.dictionaries = dictionaries;
+        this.wordLength = dictionaries.getDefaultLength();
+        this.engine = new GameEngine(dictionaries);
     }
 
     public void setMainApplication(Main mainApplication) {
         this.mainApplication = mainApplication;
     }
 
+    public void setGameRecordWriter(GameRecordWriter gameRecords) {
+        this.gameRecords = gameRecords;
+    }
+
+    // The last game finished in this session, or null
+    public GameRecord getLastRecord() {
+        return lastRecord;
+    }
+
     public void setMultiplayerRoleManager(MultiplayerRoleManager roleManager) {
         this.roleManager = roleManager;
     }
@@ -47,156 +66,295 @@ public class WordleGame {
 
     public void setSinglePlayerUIManager(SinglePlayerUIManager manager) {
         this.singlePlayerUIManager = manager;
-        System.out.println("SinglePlayerUIManager set in WordleGame");
     }
 
     public void setMultiPlayerUIManager(MultiPlayerUIManager manager) {
         this.multiPlayerUIManager = manager;
-        System.out.println("MultiPlayerUIManager set in WordleGame");
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public DictionaryRegistry getDictionaries() {
+        return dictionaries;
+    }
+
+    // Dictionary of the game in progress, or of the length the next game will use
+    public WordValidator getWordValidator() {
+        return state != null ? state.getWordValidator() : dictionaries.get(wordLength);
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    // Takes effect from the next game; the dictionary loads on first use if it has not been preloaded
+    public void setWordLength(int wordLength) {
+        dictionaries.get(wordLength);  // rejects lengths outside the supported range
+        this.wordLength = wordLength;
     }
 
     public void startNewSinglePlayerGame() {
+        startNewSinglePlayerGame(difficulty);
+    }
+
+    // A tier draws its secret from the dictionary's frequency-weighted table for that tier
+    public void startNewSinglePlayerGame(DifficultyTier tier) {
         isMultiplayerMode = false;
+        useUIManager(singlePlayerUIManager);
         resetGameState();
-        setRandomSecretWord();
+        if (singlePlayerUIManager != null) {
+            singlePlayerUIManager.setWordLength(wordLength);
+        }
+        if (tier != null) {
+            setSecretWord(dictionaries.get(wordLength).getRandomWord(tier));
+        } else {
+            setRandomSecretWord();
+        }
         statisticsManager.incrementSinglePlayerGamesPlayed();
-        System.out.println("Started new single-player game with secret word: " + this.secretWord);
     }
 
     public void resetGameState() {
-        this.attempts = 0;
-        this.currentRow = 0;
-        this.currentCol = 0;
-        this.currentGuess = new StringBuilder();
-        this.gameCompleted = false;
-        this.gameOver = false;
-        this.isGameWon = false;
-        this.secretWord = null;
+        state = null;
     }
 
     public void startNewMultiPlayerGame(String secretWord) {
         isMultiplayerMode = true;
+        useUIManager(multiPlayerUIManager);
+        resetGameState();
+        setSecretWord(secretWord);
+        statisticsManager.incrementMultiPlayerGamesPlayed();
+    }
+
+    // Online rounds are played on the server; the client counts them here as it would a local round
+    public void startOnlineRound() {
+        isMultiplayerMode = true;
+        useUIManager(multiPlayerUIManager);
         resetGameState();
-        this.secretWord = secretWord.toUpperCase();
         statisticsManager.incrementMultiPlayerGamesPlayed();
-        System.out.println("Started new multiplayer game with secret word: " + this.secretWord);
+    }
+
+    // Records a round the server reported over, rebuilt from the feedback this client was sent.
+    // Player 1 is whoever plays at this machine and player 2 the opponent
+    public void finishOnlineRound(GameRecord record, long solveNanos) {
+        writeRecord(record);
+        statisticsManager.record(GameOutcome.finished(GameOutcome.Mode.MULTI_PLAYER, record.player(), record.won(),
+                record.guessCount(), record.score(), solveNanos));
+        updateStats(statisticsManager.getMultiPlayerStatistics(), true);
     }
 
     private void setRandomSecretWord() {
-        setSecretWord(wordValidator.getRandomWord());
+        setSecretWord(schedulerFor(wordLength).nextWord());
+    }
+
+    // Single-player secrets come from a no-repeat schedule per word length, resumed from a saved cursor
+    private WordScheduler schedulerFor(int wordLength) {
+        WordScheduler scheduler = schedulers.get(wordLength);
+        if (scheduler == null) {
+            WordValidator validator = dictionaries.get(wordLength);
+            WordScheduler.Cursor cursor = savedCursors.get(wordLength);
+            scheduler = cursor != null ? new WordScheduler(validator, cursor) : new WordScheduler(validator);
+            schedulers.put(wordLength, scheduler);
+        }
+        return scheduler;
+    }
+
+    public boolean isHardMode() {
+        return hardMode;
+    }
+
+    // Applies from the next game, single-player or local multiplayer; a game in progress keeps its rules
+    public void setHardMode(boolean hardMode) {
+        this.hardMode = hardMode;
+    }
+
+    public DifficultyTier getDifficulty() {
+        return difficulty;
+    }
+
+    // Applies to the following single-player games; null deals every word in turn
+    public void setDifficulty(DifficultyTier difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    // Cursors saved by an earlier session; lengths already played in this one keep their schedule
+    public void restoreWordSchedules(Map<Integer, WordScheduler.Cursor> cursors) {
+        savedCursors = cursors;
+    }
+
+    public Map<Integer, WordScheduler.Cursor> getWordScheduleCursors() {
+        Map<Integer, WordScheduler.Cursor> cursors = new HashMap<>(savedCursors);
+        schedulers.forEach((length, scheduler) -> cursors.put(length, scheduler.getCursor()));
+        return cursors;
     }
 
     public void setSecretWord(String secretWord) {
-        this.secretWord = secretWord.toUpperCase();
+        state = engine.newGame(secretWord, hardMode);
     }
 
     public String getSecretWord() {
-        return secretWord;
+        return state != null ? state.getSecretWord() : null;
+    }
+
+    private void useUIManager(UIManager manager) {
+        if (activeUIManager != manager) {
+            if (activeUIManager != null) {
+                engine.removeListener(activeUIManager);
+            }
+            if (manager != null) {
+                engine.addListener(manager);
+            } else {
+                System.err.println("Error: no UIManager set for " + (isMultiplayerMode ? "multiplayer" : "single-player") + " mode");
+            }
+            activeUIManager = manager;
+        }
     }
 
     public void handleKeyPress(String letter) {
-        if (!gameCompleted && currentCol < 5) {
-            currentGuess.append(letter);
-            updateUI(currentRow, currentCol, letter);
-            currentCol++;
+        if (state != null && !letter.isEmpty()) {
+            engine.typeLetter(state, letter.charAt(0));
         }
     }
 
     public void handleBackspace() {
-        if (!gameCompleted && currentCol > 0) {
-            currentCol--;
-            updateUI(currentRow, currentCol, "");
-            currentGuess.deleteCharAt(currentGuess.length() - 1);
+        if (state != null) {
+            engine.deleteLetter(state);
         }
     }
 
     public void processGuess() {
-        if (!gameCompleted && currentGuess.length() == 5) {
-            String guessWord = currentGuess.toString();
-            if (wordValidator.isValidWord(guessWord)) {
-                attempts++;
-
-                for (int i = 0; i < 5; i++) {
-                    char guessChar = currentGuess.charAt(i);
-                    char correctChar = secretWord.charAt(i);
-                    updateGuessFeedback(currentRow, i, guessChar, correctChar);
-                }
-                updateKeyboardFeedback(currentGuess.toString(), secretWord);
-
-                if (currentGuess.toString().equals(secretWord)) {
-                    isGameWon = true;
-                    score = SCORES[attempts - 1];  // Set score based on number of attempts
-                    handleGameEnd(true); // Player wins
-                } else if (attempts >= 6) {
-                    isGameWon = false;
-                    score = 0;  // No score for not solving
-                    handleGameEnd(false); // Player loses
-                } else {
-                    currentRow++;
-                    currentCol = 0;
-                    currentGuess.setLength(0);
-                }
-            } else {
-                showAlert("Invalid word! Please enter a valid 5-letter word from the dictionary.");
-                // Clear the current guess
-                for (int i = 0; i < 5; i++) {
-                    updateUI(currentRow, i, "");
-                }
-                currentGuess.setLength(0);
-                currentCol = 0;
+        if (state != null) {
+            WordleEvents.Guess event = new WordleEvents.Guess();
+            event.begin();
+            long start = System.nanoTime();
+            GuessResult result = engine.submitTyped(state);  // listeners render the feedback before this returns
+            GameMetrics.guess(result, System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.mode = isMultiplayerMode ? "multiplayer" : "single-player";
+                event.attempt = result.isScored() ? result.attempt() : result.attempt() + 1;
+                event.outcome = result.outcome().name();
+                event.commit();
+            }
+            if (result.isGameOver()) {
+                handleGameEnd(result.outcome() == GuessResult.Outcome.WON);
             }
         }
     }
 
     private void handleGameEnd(boolean isWin) {
-        if (!gameCompleted) {
-            gameCompleted = true;
-            if (isMultiplayerMode) {
-                boolean isPlayer1Guessing = !roleManager.isPlayer1SettingWord();
-                if (isWin) {
-                    // Guessing player wins, gets points, and increases win count
-                    if (isPlayer1Guessing) {
-                        statisticsManager.incrementPlayer1Wins();
-                        statisticsManager.addMultiPlayerScore(score, 1);
-                        showAlert("Player 1 wins! They guessed the word in " + attempts + " attempts.\nScore: " + score);
-                    } else {
-                        statisticsManager.incrementPlayer2Wins();
-                        statisticsManager.addMultiPlayerScore(score, 2);
-                        showAlert("Player 2 wins! They guessed the word in " + attempts + " attempts.\nScore: " + score);
-                    }
-                    statisticsManager.addMultiPlayerGuessesForWin(attempts);
+        recordGame();
+        int attempts = state.getAttempts();
+        int score = state.getScore();
+        long solveNanos = state.getSolveNanos();
+        String secretWord = state.getSecretWord();
+        if (isMultiplayerMode) {
+            boolean isPlayer1Guessing = !roleManager.isPlayer1SettingWord();
+            if (isWin) {
+                // Guessing player wins, gets points, and increases win count
+                if (isPlayer1Guessing) {
+                    statisticsManager.record(GameOutcome.finished(GameOutcome.Mode.MULTI_PLAYER, 1, true, attempts, score, solveNanos));
+                    showAlert("Player 1 wins! They guessed the word in " + attempts + " attempts.\nScore: " + score);
                 } else {
-                    // Word not guessed, no points awarded, loss count increased for guessing player
-                    if (isPlayer1Guessing) {
-                        statisticsManager.incrementPlayer1Losses();
-                        showAlert("Round over. Player 1 couldn't guess the word: " + secretWord + "\nNo points awarded.");
-                    } else {
-                        statisticsManager.incrementPlayer2Losses();
-                        showAlert("Round over. Player 2 couldn't guess the word: " + secretWord + "\nNo points awarded.");
-                    }
+                    statisticsManager.record(GameOutcome.finished(GameOutcome.Mode.MULTI_PLAYER, 2, true, attempts, score, solveNanos));
+                    showAlert("Player 2 wins! They guessed the word in " + attempts + " attempts.\nScore: " + score);
                 }
-                updateStats(statisticsManager.getMultiPlayerStatistics(), true);
-                multiPlayerUIManager.endGame();
             } else {
-                // Single player mode
-                if (isWin) {
-                    statisticsManager.incrementSinglePlayerWins();
-                    statisticsManager.addSinglePlayerGuessesForWin(attempts);
-                    statisticsManager.addScore(score);
-                    showAlert("Congratulations! You've guessed the word in " + attempts + " attempts. Score: " + score);
+                // Word not guessed, no points awarded, loss count increased for guessing player
+                if (isPlayer1Guessing) {
+                    statisticsManager.record(GameOutcome.finished(GameOutcome.Mode.MULTI_PLAYER, 1, false, attempts, 0, solveNanos));
+                    showAlert("Round over. Player 1 couldn't guess the word: " + secretWord + "\nNo points awarded.");
                 } else {
-                    statisticsManager.incrementSinglePlayerLosses();
-                    statisticsManager.addScore(0);
-                    showAlert("Game Over! The word was: " + secretWord + ". Score: 0");
+                    statisticsManager.record(GameOutcome.finished(GameOutcome.Mode.MULTI_PLAYER, 2, false, attempts, 0, solveNanos));
+                    showAlert("Round over. Player 2 couldn't guess the word: " + secretWord + "\nNo points awarded.");
                 }
-                updateStats(statisticsManager.getSinglePlayerStatistics(), true);
-                singlePlayerUIManager.endGame();
             }
+            updateStats(statisticsManager.getMultiPlayerStatistics(), true);
+        } else {
+            // Single player mode
+            if (isWin) {
+                statisticsManager.record(GameOutcome.finished(GameOutcome.Mode.SINGLE_PLAYER, 0, true, attempts, score, solveNanos));
+                showAlert("Congratulations! You've guessed the word in " + attempts + " attempts. Score: " + score);
+            } else {
+                statisticsManager.record(GameOutcome.finished(GameOutcome.Mode.SINGLE_PLAYER, 0, false, attempts, 0, solveNanos));
+                showAlert("Game Over! The word was: " + secretWord + ". Score: 0");
+            }
+            updateStats(statisticsManager.getSinglePlayerStatistics(), true);
+        }
+        if (activeUIManager != null) {
+            activeUIManager.endGame();
         }
     }
 
+    private void recordGame() {
+        GameOutcome.Mode mode = isMultiplayerMode ? GameOutcome.Mode.MULTI_PLAYER : GameOutcome.Mode.SINGLE_PLAYER;
+        int player = isMultiplayerMode && roleManager != null ? (roleManager.isPlayer1SettingWord() ? 2 : 1) : 0;
+        writeRecord(GameRecord.of(state, mode, player));
+    }
+
+    private void writeRecord(GameRecord record) {
+        lastRecord = record;
+        if (gameRecords != null) {
+            try {
+                gameRecords.write(record);
+                gameRecords.flush();  // one game at a time here; a crash should not take a session's history with it
+            } catch (IOException e) {
+                System.err.println("Error recording game: " + e.getMessage());
+            }
+        }
+    }
+
+    // Plays a recorded game back on the board of its mode; a game in progress is abandoned
+    public void replay(GameRecord record) {
+        resetGameState();  // keys pressed during the replay have no game to go to
+        UIManager manager = record.mode() == GameOutcome.Mode.MULTI_PLAYER ? multiPlayerUIManager : singlePlayerUIManager;
+        if (manager == null) {
+            System.err.println("Error: no UIManager set to replay a " + record.mode() + " game");
+            return;
+        }
+        manager.setWordLength(record.wordLength());
+        manager.showReplay(record);
+        GameReplay.play(record, manager, REPLAY_SPEED, () -> {
+            manager.showAlert(record.won()
+                    ? "Replay over: " + record.secretWord() + " guessed in " + record.guessCount() + " attempts."
+                    : "Replay over: the word " + record.secretWord() + " was not guessed.");
+            returnToMainScreen();
+        });
+    }
+
+    public int getGuessCount() {
+        return state != null ? state.getAttempts() : 0;
+    }
+
+    // Packed codes (see WordCodec) of the guesses made so far in this game
+    public long[] getGuessCodes() {
+        return state != null ? state.getGuessCodes() : new long[0];
+    }
+
+    // GuessScorer patterns matching getGuessCodes()
+    public int[] getGuessPatterns() {
+        return state != null ? state.getGuessPatterns() : new int[0];
+    }
+
+    public int getRemainingCandidateCount() {
+        return state != null ? state.getCandidates().count() : getWordValidator().getWordCount();
+    }
+
+    // Dictionary indices (see WordValidator.getWord) of the words that could still be the secret
+    public PrimitiveIterator.OfInt getRemainingCandidates() {
+        return state != null ? state.getCandidates().iterator() : getWordValidator().getCandidateIndex().newCandidateSet().iterator();
+    }
+
+    public boolean isGameCompleted() {
+        return state == null || state.isCompleted();
+    }
+
     public int getScore() {
-        return score;
+        return state != null ? state.getScore() : 0;
     }
 
     public boolean isMultiplayerMode() {
@@ -218,95 +376,19 @@ public class WordleGame {
         }
     }
 
-    private void updateUI(int row, int col, String letter) {
-        if (isMultiplayerMode) {
-            if (multiPlayerUIManager != null) {
-                multiPlayerUIManager.updateGrid(row, col, letter);
-            } else {
-                System.err.println("Error: MultiPlayerUIManager is null in updateUI");
-            }
-        } else {
-            if (singlePlayerUIManager != null) {
-                singlePlayerUIManager.updateGrid(row, col, letter);
-            } else {
-                System.err.println("Error: SinglePlayerUIManager is null in updateUI");
-            }
-        }
-    }
-
-    private void updateGuessFeedback(int row, int col, char guessChar, char correctChar) {
-        if (isMultiplayerMode) {
-            if (multiPlayerUIManager != null) {
-                multiPlayerUIManager.updateGuessFeedback(row, col, guessChar, correctChar);
-            } else {
-                System.err.println("Error: MultiPlayerUIManager is null in updateGuessFeedback");
-            }
-        } else {
-            if (singlePlayerUIManager != null) {
-                singlePlayerUIManager.updateGuessFeedback(row, col, guessChar, correctChar);
-            } else {
-                System.err.println("Error: SinglePlayerUIManager is null in updateGuessFeedback");
-            }
-        }
-    }
-
-    private void updateKeyboardFeedback(String guess, String secretWord) {
-        if (isMultiplayerMode) {
-            if (multiPlayerUIManager != null) {
-                multiPlayerUIManager.updateKeyboardFeedback(guess, secretWord);
-            } else {
-                System.err.println("Error: MultiPlayerUIManager is null in updateKeyboardFeedback");
-            }
-        } else {
-            if (singlePlayerUIManager != null) {
-                singlePlayerUIManager.updateKeyboardFeedback(guess, secretWord);
-            } else {
-                System.err.println("Error: SinglePlayerUIManager is null in updateKeyboardFeedback");
-            }
-        }
-    }
-
     private void showAlert(String message) {
-        if (isMultiplayerMode) {
-            if (multiPlayerUIManager != null) {
-                multiPlayerUIManager.showAlert(message);
-            } else {
-                System.err.println("Error: MultiPlayerUIManager is null in showAlert");
-            }
+        if (activeUIManager != null) {
+            activeUIManager.showAlert(message);
         } else {
-            if (singlePlayerUIManager != null) {
-                singlePlayerUIManager.showAlert(message);
-            } else {
-                System.err.println("Error: SinglePlayerUIManager is null in showAlert");
-            }
+            System.err.println("Error: UIManager is null in showAlert");
         }
     }
 
     private void updateStats(String stats, boolean isVisible) {
-        if (isMultiplayerMode) {
-            if (multiPlayerUIManager != null) {
-                multiPlayerUIManager.updateStats(stats, isVisible);
-            } else {
-                System.err.println("Error: MultiPlayerUIManager is null in updateStats");
-            }
+        if (activeUIManager != null) {
+            activeUIManager.updateStats(stats, isVisible);
         } else {
-            if (singlePlayerUIManager != null) {
-                singlePlayerUIManager.updateStats(stats, isVisible);
-            } else {
-                System.err.println("Error: SinglePlayerUIManager is null in updateStats");
-            }
+            System.err.println("Error: UIManager is null in updateStats");
         }
     }
-
-    public void checkGameState() {
-        System.out.println("Current game state:");
-        System.out.println("Secret word: " + secretWord);
-        System.out.println("Is multiplayer mode: " + isMultiplayerMode);
-        System.out.println("Current row: " + currentRow);
-        System.out.println("Current col: " + currentCol);
-        System.out.println("Game completed: " + gameCompleted);
-        System.out.println("Game over: " + gameOver);
-        System.out.println("SinglePlayerUIManager is " + (singlePlayerUIManager != null ? "set" : "null"));
-        System.out.println("MultiPlayerUIManager is " + (multiPlayerUIManager != null ? "set" : "null"));
-    }
-}
\ No newline at end of file
+}
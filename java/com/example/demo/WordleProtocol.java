@@ -0,0 +1,61 @@
+package com.example.demo;
+
+// Line protocol spoken between WordleServer and its clients. Every message is one ASCII line:
+// a command, optionally followed by a space and its arguments.
+//
+// Client to server:
+//   JOIN <room>                 join (or open) a two-player room
+//   SET <word>                  setter chooses the secret word
+//   GUESS <word>                guesser submits a guess
+//   NEXT                        after a round, switch roles and start the next one; each player
+//                               sends it once per round, the first one starts the round
+//   QUIT
+//
+// Server to client:
+//   JOINED <room> <player>      player is 1 or 2; player 1 sets the first word
+//   ROLE SETTER | ROLE GUESSER  a new round started
+//   WORD_SET                    (setter) the word was accepted
+//   GUESS_NOW                   (guesser) the word is set, start guessing
+//   FEEDBACK <word> <pattern> <attempt>   GuessScorer pattern, sent to both players
+//   WIN <attempts> <score>      the guesser solved it
+//   LOSE <secret>               the guesser ran out of attempts
+//   INVALID <message>           the last SET or GUESS was rejected
+//   OPPONENT_LEFT
+//   ERROR <message>
+public final class WordleProtocol {
+    public static final int DEFAULT_PORT = 7777;
+    public static final int MAX_LINE_LENGTH = 64;
+    public static final int MAX_ROOM_NAME_LENGTH = 16;
+
+    public static final String JOIN = "JOIN";
+    public static final String SET = "SET";
+    public static final String GUESS = "GUESS";
+    public static final String NEXT = "NEXT";
+    public static final String QUIT = "QUIT";
+
+    public static final String JOINED = "JOINED";
+    public static final String ROLE = "ROLE";
+    public static final String SETTER = "SETTER";
+    public static final String GUESSER = "GUESSER";
+    public static final String WORD_SET = "WORD_SET";
+    public static final String GUESS_NOW = "GUESS_NOW";
+    public static final String FEEDBACK = "FEEDBACK";
+    public static final String WIN = "WIN";
+    public static final String LOSE = "LOSE";
+    public static final String INVALID = "INVALID";
+    public static final String OPPONENT_LEFT = "OPPONENT_LEFT";
+    public static final String ERROR = "ERROR";
+
+    private WordleProtocol() {
+    }
+
+    public static String command(String line) {
+        int space = line.indexOf(' ');
+        return space < 0 ? line : line.substring(0, space);
+    }
+
+    public static String argument(String line) {
+        int space = line.indexOf(' ');
+        return space < 0 ? "" : line.substring(space + 1).trim();
+    }
+}
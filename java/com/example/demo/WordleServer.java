@@ -0,0 +1,372 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// Network multiplayer server speaking WordleProtocol. A single selector thread owns every
+// connection and room, so game state needs no locking; each guess is a dictionary lookup and a
+// GuessScorer call, which keeps one thread ahead of thousands of concurrent games.
+// Per-session memory is bounded: a fixed input buffer, an output buffer capped at
+// MAX_PENDING_OUTPUT (slow readers are disconnected) and one GameState per room.
+//
+// Usage: java com.example.demo.WordleServer [port]
+public class WordleServer implements Runnable {
+    private static final int MAX_PENDING_OUTPUT = 4096;
+    private static final int INITIAL_OUTPUT = 256;
+
+    private final WordValidator wordValidator;
+    private final GameEngine engine;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Map<String, GameRoom> rooms = new HashMap<>();
+    private volatile boolean running = true;
+
+    static final class Session {
+        final SocketChannel channel;
+        final ByteBuffer input = ByteBuffer.allocate(WordleProtocol.MAX_LINE_LENGTH);
+        ByteBuffer output = ByteBuffer.allocate(INITIAL_OUTPUT);
+        SelectionKey key;
+        GameRoom room;
+        int roundsAcknowledged;  // finished rounds of the room this player has sent NEXT for
+        boolean closed;
+
+        Session(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    public WordleServer(WordValidator wordValidator, InetSocketAddress address) throws IOException {
+        this.wordValidator = wordValidator;
+        this.engine = new GameEngine(wordValidator);
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : WordleProtocol.DEFAULT_PORT;
+        WordleEvents.startConfiguredRecording();
+        GameMetrics.expose();
+        WordleServer server = new WordleServer(new WordValidator(), new InetSocketAddress(port));
+        System.out.println("Wordle server listening on port " + server.getPort());
+        server.run();
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public Thread start() {
+        Thread thread = new Thread(this, "wordle-server");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    public void stop() {
+        running = false;
+        selector.wakeup();
+    }
+
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Session session = (Session) key.attachment();
+                        if (key.isReadable()) {
+                            read(session);
+                        }
+                        if (!session.closed && key.isValid() && key.isWritable()) {
+                            flush(session);
+                        }
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (running) {
+                System.err.println("Wordle server stopped: " + e.getMessage());
+            }
+        } finally {
+            closeAll();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Session session = new Session(channel);
+            session.key = channel.register(selector, SelectionKey.OP_READ, session);
+        }
+    }
+
+    private void read(Session session) {
+        int read;
+        try {
+            read = session.channel.read(session.input);
+        } catch (IOException e) {
+            close(session);
+            return;
+        }
+        if (read < 0) {
+            close(session);
+            return;
+        }
+
+        ByteBuffer input = session.input;
+        int lineStart = 0;
+        for (int i = 0; i < input.position(); i++) {
+            if (input.get(i) == '\n') {
+                String line = new String(input.array(), lineStart, i - lineStart, StandardCharsets.US_ASCII).trim();
+                lineStart = i + 1;
+                if (!line.isEmpty()) {
+                    handleLine(session, line);
+                }
+                if (session.closed) {
+                    return;
+                }
+            }
+        }
+        if (lineStart == 0 && !input.hasRemaining()) {
+            send(session, WordleProtocol.ERROR + " Line too long");
+            close(session);
+            return;
+        }
+        input.limit(input.position()).position(lineStart);
+        input.compact();
+    }
+
+    private void handleLine(Session session, String line) {
+        String command = WordleProtocol.command(line);
+        String argument = WordleProtocol.argument(line);
+        switch (command) {
+            case WordleProtocol.JOIN:
+                join(session, argument);
+                break;
+            case WordleProtocol.SET:
+                setWord(session, argument);
+                break;
+            case WordleProtocol.GUESS:
+                guess(session, argument);
+                break;
+            case WordleProtocol.NEXT:
+                nextRound(session);
+                break;
+            case WordleProtocol.QUIT:
+                close(session);
+                break;
+            default:
+                send(session, WordleProtocol.ERROR + " Unknown command " + command);
+        }
+    }
+
+    private void join(Session session, String roomName) {
+        if (session.room != null) {
+            send(session, WordleProtocol.ERROR + " Already in room " + session.room.name);
+            return;
+        }
+        if (roomName.isEmpty() || roomName.length() > WordleProtocol.MAX_ROOM_NAME_LENGTH || roomName.indexOf(' ') >= 0) {
+            send(session, WordleProtocol.ERROR + " Room names are 1-" + WordleProtocol.MAX_ROOM_NAME_LENGTH + " characters without spaces");
+            return;
+        }
+        GameRoom room = rooms.computeIfAbsent(roomName, GameRoom::new);
+        if (room.isFull()) {
+            send(session, WordleProtocol.ERROR + " Room " + roomName + " is full");
+            return;
+        }
+        int slot = room.players[0] == null ? 0 : 1;
+        room.players[slot] = session;
+        session.room = room;
+        send(session, WordleProtocol.JOINED + " " + roomName + " " + (slot + 1));
+
+        if (room.isFull()) {
+            room.players[0].roundsAcknowledged = room.roundsFinished;
+            room.players[1].roundsAcknowledged = room.roundsFinished;
+            room.player1SettingWord = true;
+            startRound(room);
+        }
+    }
+
+    private void startRound(GameRoom room) {
+        room.state = null;
+        send(room.setter(), WordleProtocol.ROLE + " " + WordleProtocol.SETTER);
+        send(room.guesser(), WordleProtocol.ROLE + " " + WordleProtocol.GUESSER);
+    }
+
+    private void setWord(Session session, String word) {
+        GameRoom room = session.room;
+        if (room == null || !room.isFull() || room.setter() != session || room.state != null) {
+            send(session, WordleProtocol.ERROR + " Not your turn to set a word");
+            return;
+        }
+        if (word.length() != wordValidator.getWordLength() || !wordValidator.isValidWord(word)) {
+            send(session, WordleProtocol.INVALID + " Invalid word! Please enter a valid "
+                    + wordValidator.getWordLength() + "-letter word.");
+            return;
+        }
+        room.state = engine.newGame(word);
+        send(session, WordleProtocol.WORD_SET);
+        send(room.guesser(), WordleProtocol.GUESS_NOW);
+    }
+
+    private void guess(Session session, String word) {
+        GameRoom room = session.room;
+        if (room == null || room.state == null || room.guesser() != session || room.state.isCompleted()) {
+            send(session, WordleProtocol.ERROR + " Not your turn to guess");
+            return;
+        }
+        long start = System.nanoTime();
+        GuessResult result = engine.submitGuess(room.state, word);
+        GameMetrics.guess(result, System.nanoTime() - start);
+        if (!result.isScored()) {
+            send(session, WordleProtocol.INVALID + " " + result.message());
+            return;
+        }
+
+        String feedback = WordleProtocol.FEEDBACK + " " + result.guess() + " " + result.pattern() + " " + result.attempt();
+        send(room.players[0], feedback);
+        send(room.players[1], feedback);
+        if (result.outcome() == GuessResult.Outcome.WON || result.outcome() == GuessResult.Outcome.LOST) {
+            room.roundsFinished++;
+        }
+        if (result.outcome() == GuessResult.Outcome.WON) {
+            String win = WordleProtocol.WIN + " " + result.attempt() + " " + result.score();
+            send(room.players[0], win);
+            send(room.players[1], win);
+        } else if (result.outcome() == GuessResult.Outcome.LOST) {
+            String lose = WordleProtocol.LOSE + " " + room.state.getSecretWord();
+            send(room.players[0], lose);
+            send(room.players[1], lose);
+        }
+    }
+
+    // Each player sends NEXT once per finished round; the first one starts the next round and the
+    // other is accepted whenever it arrives, even after the new setter has chosen a word
+    private void nextRound(Session session) {
+        GameRoom room = session.room;
+        if (room != null && session.roundsAcknowledged < room.roundsFinished) {
+            session.roundsAcknowledged = room.roundsFinished;
+            if (room.isFull() && room.state != null && room.state.isCompleted()) {
+                room.switchRoles();
+                startRound(room);
+            }
+            return;
+        }
+        if (room != null && room.isFull() && room.state == null) {
+            return;  // Waiting for the setter; nothing to acknowledge
+        }
+        send(session, WordleProtocol.ERROR + " The round is not over");
+    }
+
+    private void send(Session session, String line) {
+        if (session == null || session.closed) {
+            return;
+        }
+        int needed = line.length() + 1;
+        ByteBuffer output = session.output;
+        if (output.remaining() < needed) {
+            int capacity = Math.max(output.capacity() * 2, output.position() + needed);
+            if (capacity > MAX_PENDING_OUTPUT) {
+                close(session);  // The client is not reading; drop it rather than buffer without bound
+                return;
+            }
+            ByteBuffer grown = ByteBuffer.allocate(capacity);
+            output.flip();
+            grown.put(output);
+            session.output = grown;
+            output = grown;
+        }
+        for (int i = 0; i < line.length(); i++) {
+            output.put((byte) line.charAt(i));
+        }
+        output.put((byte) '\n');
+        flush(session);
+    }
+
+    private void flush(Session session) {
+        ByteBuffer output = session.output;
+        output.flip();
+        try {
+            session.channel.write(output);
+        } catch (IOException e) {
+            output.compact();
+            close(session);
+            return;
+        }
+        output.compact();
+        if (session.key.isValid()) {
+            session.key.interestOps(output.position() > 0
+                    ? SelectionKey.OP_READ | SelectionKey.OP_WRITE
+                    : SelectionKey.OP_READ);
+        }
+    }
+
+    private void close(Session session) {
+        if (session.closed) {
+            return;
+        }
+        session.closed = true;
+        session.key.cancel();
+        try {
+            session.channel.close();
+        } catch (IOException e) {
+            // Already gone
+        }
+
+        GameRoom room = session.room;
+        if (room != null) {
+            Session opponent = room.opponentOf(session);
+            room.players[room.players[0] == session ? 0 : 1] = null;
+            room.state = null;
+            session.room = null;
+            if (room.isEmpty()) {
+                rooms.remove(room.name);
+            } else {
+                send(opponent, WordleProtocol.OPPONENT_LEFT);
+            }
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Session) {
+                close((Session) key.attachment());
+            }
+        }
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException e) {
+            System.err.println("Error closing Wordle server: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Ranks next guesses by expected information gain (entropy of the feedback partition) over the
+// answers still consistent with the guesses made so far. Every dictionary word is considered as a
+// guess and the partitions are computed in parallel on a ForkJoinPool. The opening ranking is the
+// same for every game, so it is computed once and cached.
+public class WordleSolver {
+    private static final int GUESSES_PER_TASK = 64;
+    private static final int CACHED_OPENING_SIZE = 20;
+
+    private final WordValidator wordValidator;
+    private final FeedbackMatrix feedbackMatrix;  // optional, patterns are scored directly without it
+    private final ForkJoinPool pool;
+    private final int wordLength;
+    private final long[] codes;
+    private volatile SolverResult cachedOpening;
+
+    public record Suggestion(String word, double expectedInformation, boolean possibleAnswer) {
+    }
+
+    public record SolverResult(List<Suggestion> suggestions, int remainingCandidates) {
+    }
+
+    public WordleSolver(WordValidator wordValidator) {
+        this(wordValidator, null, ForkJoinPool.commonPool());
+    }
+
+    public WordleSolver(WordValidator wordValidator, FeedbackMatrix feedbackMatrix, ForkJoinPool pool) {
+        this.wordValidator = wordValidator;
+        this.feedbackMatrix = feedbackMatrix;
+        this.pool = pool;
+        this.wordLength = wordValidator.getWordLength();
+        this.codes = new long[wordValidator.getWordCount()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = wordValidator.getWordCode(i);
+        }
+    }
+
+    public SolverResult suggest(WordleGame game, int limit) {
+        return suggest(game.getGuessCodes(), game.getGuessPatterns(), limit);
+    }
+
+    public SolverResult suggest(long[] guessCodes, int[] patterns, int limit) {
+        return suggest(guessCodes, patterns, limit, null);
+    }
+
+    // With hard mode constraints, only guesses they allow are suggested. Before the first guess they
+    // allow every word, so the cached opening still serves
+    public SolverResult suggest(long[] guessCodes, int[] patterns, int limit, HardModeConstraints hardMode) {
+        if (guessCodes.length == 0 && limit <= CACHED_OPENING_SIZE) {
+            SolverResult opening = cachedOpening;
+            if (opening == null) {
+                opening = rank(allCandidates(), CACHED_OPENING_SIZE, null);
+                cachedOpening = opening;
+            }
+            List<Suggestion> suggestions = opening.suggestions();
+            return new SolverResult(suggestions.subList(0, Math.min(limit, suggestions.size())),
+                    opening.remainingCandidates());
+        }
+        return rank(filterCandidates(guessCodes, patterns), limit, hardMode);
+    }
+
+    // Computes the cached opening ranking ahead of the first hint request
+    public void prewarm() {
+        suggest(new long[0], new int[0], CACHED_OPENING_SIZE);
+    }
+
+    private int[] allCandidates() {
+        int[] candidates = new int[codes.length];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = i;
+        }
+        return candidates;
+    }
+
+    private int[] filterCandidates(long[] guessCodes, int[] patterns) {
+        CandidateSet candidates = wordValidator.getCandidateIndex().newCandidateSet();
+        for (int i = 0; i < guessCodes.length; i++) {
+            candidates.apply(guessCodes[i], patterns[i]);
+        }
+        return candidates.toArray();
+    }
+
+    private SolverResult rank(int[] candidates, int limit, HardModeConstraints hardMode) {
+        if (candidates.length == 0) {
+            return new SolverResult(Collections.emptyList(), 0);
+        }
+
+        double[] information = new double[codes.length];
+        if (candidates.length > 1) {
+            pool.invoke(new EntropyTask(candidates, information, 0, codes.length));
+        }
+
+        boolean[] isCandidate = new boolean[codes.length];
+        for (int candidate : candidates) {
+            isCandidate[candidate] = true;
+        }
+
+        // Keep the best `limit` guesses; ties go to words that could still be the answer
+        int[] best = new int[Math.min(limit, codes.length)];
+        int bestCount = 0;
+        for (int guess = 0; guess < codes.length; guess++) {
+            if (hardMode != null && !hardMode.allows(codes[guess])) {
+                continue;
+            }
+            int position = bestCount;
+            while (position > 0 && isBetter(guess, best[position - 1], information, isCandidate)) {
+                position--;
+            }
+            if (position < best.length) {
+                int moved = Math.min(bestCount, best.length - 1) - position;
+                System.arraycopy(best, position, best, position + 1, moved);
+                best[position] = guess;
+                bestCount = Math.min(bestCount + 1, best.length);
+            }
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(bestCount);
+        for (int i = 0; i < bestCount; i++) {
+            int guess = best[i];
+            suggestions.add(new Suggestion(WordCodec.decode(codes[guess], wordLength), information[guess], isCandidate[guess]));
+        }
+        return new SolverResult(suggestions, candidates.length);
+    }
+
+    private static boolean isBetter(int guess, int other, double[] information, boolean[] isCandidate) {
+        if (information[guess] != information[other]) {
+            return information[guess] > information[other];
+        }
+        return isCandidate[guess] && !isCandidate[other];
+    }
+
+    private class EntropyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] candidates;
+        private final double[] information;
+        private final int fromGuess;
+        private final int toGuess;
+
+        EntropyTask(int[] candidates, double[] information, int fromGuess, int toGuess) {
+            this.candidates = candidates;
+            this.information = information;
+            this.fromGuess = fromGuess;
+            this.toGuess = toGuess;
+        }
+
+        @Override
+        protected void compute() {
+            if (toGuess - fromGuess > GUESSES_PER_TASK) {
+                int middle = (fromGuess + toGuess) >>> 1;
+                invokeAll(new EntropyTask(candidates, information, fromGuess, middle),
+                        new EntropyTask(candidates, information, middle, toGuess));
+                return;
+            }
+
+            int[] partition = new int[GuessScorer.patternCount(wordLength)];
+            double total = candidates.length;
+            for (int guess = fromGuess; guess < toGuess; guess++) {
+                for (int candidate : candidates) {
+                    partition[feedbackMatrix != null
+                            ? feedbackMatrix.pattern(guess, candidate)
+                            : GuessScorer.score(codes[guess], codes[candidate], wordLength)]++;
+                }
+                // H = log2(n) - (1/n) * sum(c * log2(c)) over the non-empty pattern buckets
+                double weighted = 0;
+                for (int i = 0; i < partition.length; i++) {
+                    int count = partition[i];
+                    if (count > 0) {
+                        weighted += count * log2(count);
+                        partition[i] = 0;
+                    }
+                }
+                information[guess] = log2(total) - weighted / total;
+            }
+        }
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+}
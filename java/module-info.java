@@ -7,6 +7,9 @@ module com.example.demo {
     requires org.kordamp.ikonli.javafx;
     requires org.kordamp.bootstrapfx.core;
     requires eu.hansolo.tilesfx;
+    requires jdk.jfr;
+    requires jdk.httpserver;
+    requires java.management;
 
     opens com.example.demo to javafx.fxml;
     exports com.example.demo;
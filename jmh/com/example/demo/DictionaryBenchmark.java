@@ -0,0 +1,103 @@
+package com.example.demo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DictionaryBenchmark {
+    private WordValidator wordValidator;
+    private Path compiledDictionary;
+    private String[] hits;
+    private String[] misses;
+    private String[] lowerCaseHits;
+    private char[][] hitChars;
+    private int[] hitCodes;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        wordValidator = new WordValidator();
+        int count = 1024;
+        hits = new String[count];
+        misses = new String[count];
+        lowerCaseHits = new String[count];
+        hitChars = new char[count][];
+        hitCodes = new int[count];
+        for (int i = 0; i < count; i++) {
+            String word = wordValidator.getWord(i * 3 % wordValidator.getWordCount());
+            hits[i] = word;
+            lowerCaseHits[i] = word.toLowerCase();
+            hitChars[i] = word.toCharArray();
+            hitCodes[i] = WordCodec.encode(word);
+            misses[i] = "Q" + word.substring(1, 4) + "X";  // not in the bundled list
+        }
+
+        compiledDictionary = Files.createTempFile("wordle-benchmark", ".dict");
+        Path wordList = Files.createTempFile("wordle-benchmark", ".txt");
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < wordValidator.getWordCount(); i++) {
+            words.append(wordValidator.getWord(i)).append('\n');
+        }
+        Files.writeString(wordList, words);
+        DictionaryCompiler.compile(wordList, compiledDictionary, wordValidator.getWordLength());
+        Files.delete(wordList);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(compiledDictionary);
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & 1023;
+        return next;
+    }
+
+    @Benchmark
+    public boolean isValidWordHit() {
+        return wordValidator.isValidWord(hits[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean isValidWordMiss() {
+        return wordValidator.isValidWord(misses[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean isValidWordLowerCase() {
+        return wordValidator.isValidWord(lowerCaseHits[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean isValidWordChars() {
+        return wordValidator.isValidWord(hitChars[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean isValidWordCode() {
+        return wordValidator.isValidWord(hitCodes[nextIndex()]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public WordValidator loadTextDictionary() {
+        return new WordValidator((Path) null);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public WordValidator loadCompiledDictionary() {
+        return new WordValidator(compiledDictionary);
+    }
+}
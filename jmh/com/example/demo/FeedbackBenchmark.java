@@ -0,0 +1,78 @@
+package com.example.demo;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Scoring and the per-cell / per-key decoding that UIManager does for each revealed row
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeedbackBenchmark {
+    private static final int PAIRS = 4096;
+
+    private String[] guesses;
+    private String[] secrets;
+    private int[] guessCodes;
+    private int[] secretCodes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        WordValidator wordValidator = new WordValidator();
+        Random random = new Random(42);
+        guesses = new String[PAIRS];
+        secrets = new String[PAIRS];
+        guessCodes = new int[PAIRS];
+        secretCodes = new int[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            guesses[i] = wordValidator.getWord(random.nextInt(wordValidator.getWordCount()));
+            secrets[i] = wordValidator.getWord(random.nextInt(wordValidator.getWordCount()));
+            guessCodes[i] = WordCodec.encode(guesses[i]);
+            secretCodes[i] = WordCodec.encode(secrets[i]);
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (PAIRS - 1);
+        return next;
+    }
+
+    @Benchmark
+    public int scoreStrings() {
+        int i = nextIndex();
+        return GuessScorer.score(guesses[i], secrets[i]);
+    }
+
+    @Benchmark
+    public int scoreCodes() {
+        int i = nextIndex();
+        return GuessScorer.score(guessCodes[i], secretCodes[i], 5);
+    }
+
+    // What a revealed row costs outside the scene graph: score once, decode each cell and key state
+    @Benchmark
+    public void scoreAndDecodeRow(Blackhole blackhole) {
+        int i = nextIndex();
+        String guess = guesses[i];
+        int pattern = GuessScorer.score(guess, secrets[i]);
+        for (int col = 0; col < guess.length(); col++) {
+            blackhole.consume(GuessScorer.stateAt(pattern, col));
+        }
+        for (int col = 0; col < guess.length(); col++) {
+            char letter = guess.charAt(col);
+            int state = GuessScorer.stateAt(pattern, col);
+            for (int other = col + 1; other < guess.length(); other++) {
+                if (guess.charAt(other) == letter) {
+                    state = Math.max(state, GuessScorer.stateAt(pattern, other));
+                }
+            }
+            blackhole.consume(state);
+        }
+    }
+}
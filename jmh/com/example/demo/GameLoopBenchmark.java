@@ -0,0 +1,58 @@
+package com.example.demo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Guess processing end to end, through the headless engine and through WordleGame with no UI attached
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameLoopBenchmark {
+    private static final String SECRET = "PLANT";
+    private static final String[] GUESSES = {"RAISE", "CLOUT", "FLOAT", "GLOAT", "PLANT"};
+
+    private GameEngine engine;
+    private WordleGame wordleGame;
+
+    @Setup
+    public void setUp() {
+        WordValidator wordValidator = new WordValidator();
+        engine = new GameEngine(wordValidator);
+        wordleGame = new WordleGame(new StatisticsManager(), wordValidator);
+    }
+
+    @Benchmark
+    public GameState fullGame() {
+        GameState state = engine.newGame(SECRET);
+        for (String guess : GUESSES) {
+            engine.submitGuess(state, guess);
+        }
+        return state;
+    }
+
+    @Benchmark
+    public GameState typedGuessRoundTrip() {
+        GameState state = engine.newGame(SECRET);
+        for (int i = 0; i < GUESSES[0].length(); i++) {
+            engine.typeLetter(state, GUESSES[0].charAt(i));
+        }
+        engine.submitTyped(state);
+        return state;
+    }
+
+    // One non-winning guess through WordleGame's key handling, so no end-of-game alert is raised
+    @Benchmark
+    public int wordleGameGuess() {
+        wordleGame.setSecretWord(SECRET);
+        String guess = GUESSES[0];
+        for (int i = 0; i < guess.length(); i++) {
+            wordleGame.handleKeyPress(String.valueOf(guess.charAt(i)));
+        }
+        wordleGame.processGuess();
+        return wordleGame.getGuessCount();
+    }
+}
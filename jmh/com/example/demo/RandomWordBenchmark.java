@@ -0,0 +1,62 @@
+package com.example.demo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Random secret selection on one thread and under contention from several, and no-repeat
+// scheduling with one WordScheduler per thread
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomWordBenchmark {
+    private WordValidator wordValidator;
+
+    @State(Scope.Thread)
+    public static class ThreadScheduler {
+        WordScheduler scheduler;
+
+        @Setup
+        public void setUp(RandomWordBenchmark benchmark) {
+            scheduler = new WordScheduler(benchmark.wordValidator);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        wordValidator = new WordValidator();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String randomWordSingleThread() {
+        return wordValidator.getRandomWord();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String randomWordFourThreads() {
+        return wordValidator.getRandomWord();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String randomWordAllThreads() {
+        return wordValidator.getRandomWord();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long randomWordCodeAllThreads() {
+        return wordValidator.getRandomWordCode();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long scheduledWordCodeAllThreads(ThreadScheduler thread) {
+        return thread.scheduler.nextWordCode();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AliasTableTest {
+    private static final int DRAWS = 400_000;
+
+    // Share of DRAWS that came up as each of the values 0..n-1
+    private static double[] frequencies(AliasTable table, int n, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] counts = new int[n];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[table.sample(random)]++;
+        }
+        double[] shares = new double[n];
+        for (int i = 0; i < n; i++) {
+            shares[i] = (double) counts[i] / DRAWS;
+        }
+        return shares;
+    }
+
+    @Test
+    void drawsFollowTheWeights() {
+        double[] weights = {1, 2, 3, 4, 10};
+        AliasTable table = new AliasTable(new int[] {0, 1, 2, 3, 4}, weights);
+        double[] shares = frequencies(table, weights.length, 1);
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / 20, shares[i], 0.005, "value " + i);
+        }
+    }
+
+    @Test
+    void drawsReturnTheValuesNotTheColumns() {
+        AliasTable table = new AliasTable(new int[] {3, 1, 2, 0}, new double[] {0, 0, 1, 3});
+        double[] shares = frequencies(table, 4, 2);
+        assertEquals(0.75, shares[0], 0.005);
+        assertEquals(0, shares[1], 0);
+        assertEquals(0.25, shares[2], 0.005);
+        assertEquals(0, shares[3], 0);
+    }
+
+    @Test
+    void uniformTableDrawsEveryValueEqually() {
+        int n = 10;
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        double[] shares = frequencies(AliasTable.uniform(values), n, 3);
+        for (int i = 0; i < n; i++) {
+            assertEquals(0.1, shares[i], 0.005, "value " + i);
+        }
+    }
+
+    @Test
+    void singleValueIsAlwaysDrawn() {
+        AliasTable table = new AliasTable(new int[] {9}, new double[] {0.5});
+        SplittableRandom random = new SplittableRandom(4);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(9, table.sample(random));
+        }
+    }
+
+    @Test
+    void rejectsInvalidWeights() {
+        int[] values = {0, 1};
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(values, new double[] {1, -1}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(values, new double[] {1, Double.NaN}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(values, new double[] {1, Double.POSITIVE_INFINITY}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(values, new double[] {0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(values, new double[] {1}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new int[0], new double[0]));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CandidateSetTest {
+    private static final WordValidator VALIDATOR = new WordValidator(5);
+
+    // Brute force: whether the word would have drawn the same feedback as the secret for every guess
+    private static boolean consistent(int wordIndex, long[] guesses, long secret) {
+        long word = VALIDATOR.getWordCode(wordIndex);
+        for (long guess : guesses) {
+            if (GuessScorer.score(guess, word, 5) != GuessScorer.score(guess, secret, 5)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void assertNarrowedLikeBruteForce(long secret, long... guesses) {
+        CandidateSet candidates = VALIDATOR.getCandidateIndex().newCandidateSet();
+        for (long guess : guesses) {
+            candidates.apply(guess, GuessScorer.score(guess, secret, 5));
+        }
+        int expectedCount = 0;
+        for (int i = 0; i < VALIDATOR.getWordCount(); i++) {
+            boolean expected = consistent(i, guesses, secret);
+            assertEquals(expected, candidates.contains(i), VALIDATOR.getWord(i));
+            if (expected) {
+                expectedCount++;
+            }
+        }
+        assertEquals(expectedCount, candidates.count());
+        assertTrue(candidates.contains(VALIDATOR.indexOf(secret)), "the secret stays a candidate");
+    }
+
+    @Test
+    void newSetHoldsEveryWord() {
+        CandidateSet candidates = VALIDATOR.getCandidateIndex().newCandidateSet();
+        assertEquals(VALIDATOR.getWordCount(), candidates.count());
+        assertEquals(0, candidates.nextCandidate(0));
+    }
+
+    @Test
+    void narrowsToTheWordsMatchingEachFeedback() {
+        int size = VALIDATOR.getWordCount();
+        for (int secretIndex : new int[] {0, size / 3, size / 2, size - 1}) {
+            long secret = VALIDATOR.getWordCode(secretIndex);
+            assertNarrowedLikeBruteForce(secret, WordCodec.encodeLong("CRANE"));
+            assertNarrowedLikeBruteForce(secret, WordCodec.encodeLong("CRANE"), WordCodec.encodeLong("TOILS"));
+        }
+    }
+
+    @Test
+    void narrowsOnRepeatedLetters() {
+        long secret = VALIDATOR.getWordCode(VALIDATOR.getWordCount() / 4);
+        assertNarrowedLikeBruteForce(secret, WordCodec.encodeLong("EERIE"));
+        assertNarrowedLikeBruteForce(secret, WordCodec.encodeLong("SPEED"), WordCodec.encodeLong("LLAMA"));
+    }
+
+    @Test
+    void solvedGuessLeavesOnlyTheSecret() {
+        long secret = VALIDATOR.getWordCode(7);
+        CandidateSet candidates = VALIDATOR.getCandidateIndex().newCandidateSet();
+        candidates.apply(secret, GuessScorer.solvedPattern(5));
+        assertEquals(1, candidates.count());
+        assertArrayEquals(new int[] {7}, candidates.toArray());
+    }
+
+    @Test
+    void resetRestoresEveryWord() {
+        CandidateSet candidates = VALIDATOR.getCandidateIndex().newCandidateSet();
+        candidates.apply(WordCodec.encodeLong("CRANE"), 0);
+        assertTrue(candidates.count() < VALIDATOR.getWordCount());
+        candidates.reset();
+        assertEquals(VALIDATOR.getWordCount(), candidates.count());
+    }
+
+    @Test
+    void iteratorAndArrayListTheSameCandidatesInOrder() {
+        CandidateSet candidates = VALIDATOR.getCandidateIndex().newCandidateSet();
+        long secret = VALIDATOR.getWordCode(VALIDATOR.getWordCount() / 2);
+        candidates.apply(WordCodec.encodeLong("CRANE"), GuessScorer.score(WordCodec.encodeLong("CRANE"), secret, 5));
+        int[] array = candidates.toArray();
+        PrimitiveIterator.OfInt iterator = candidates.iterator();
+        for (int i = 0; i < array.length; i++) {
+            assertTrue(i == 0 || array[i - 1] < array[i]);
+            assertEquals(array[i], iterator.nextInt());
+        }
+        assertFalse(iterator.hasNext());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GuessScorerTest {
+
+    // Pattern written as one character per position: '.' absent, 'Y' present, 'G' correct
+    private static int pattern(String states) {
+        int pattern = 0;
+        for (int i = states.length() - 1; i >= 0; i--) {
+            char state = states.charAt(i);
+            pattern = pattern * 3 + (state == 'G' ? GuessScorer.CORRECT : state == 'Y' ? GuessScorer.PRESENT : GuessScorer.ABSENT);
+        }
+        return pattern;
+    }
+
+    @Test
+    void solvedGuessIsAllCorrect() {
+        assertEquals(GuessScorer.solvedPattern(5), GuessScorer.score("CRANE", "CRANE"));
+        assertTrue(GuessScorer.isSolved(GuessScorer.score("CRANE", "CRANE"), 5));
+        assertEquals(pattern("GGGGG"), GuessScorer.solvedPattern(5));
+    }
+
+    @Test
+    void repeatedGuessLetterIsYellowOnlyOncePerSecretCopy() {
+        assertEquals(pattern("..Y.Y"), GuessScorer.score("SPEED", "ABIDE"));
+    }
+
+    @Test
+    void greenClaimsTheLetterBeforeAnEarlierCopyCanBeYellow() {
+        assertEquals(pattern(".Y..G"), GuessScorer.score("EAGLE", "CRANE"));
+    }
+
+    @Test
+    void repeatedSecretLetterLightsEveryGuessedCopy() {
+        assertEquals(pattern("YGYY."), GuessScorer.score("ALLAY", "LLAMA"));
+        assertEquals(pattern("GGG.."), GuessScorer.score("EEEXX", "EEEEE"));
+    }
+
+    @Test
+    void packedScoringMatchesStringScoring() {
+        String[] words = {"CRANE", "SPEED", "ABIDE", "EAGLE", "LLAMA", "ALLAY", "EERIE", "GEESE", "QUEUE", "ZESTY"};
+        for (String guess : words) {
+            for (String secret : words) {
+                assertEquals(GuessScorer.score(guess, secret),
+                        GuessScorer.score(WordCodec.encodeLong(guess), WordCodec.encodeLong(secret), 5), guess + " vs " + secret);
+            }
+        }
+    }
+
+    @Test
+    void stateAtReadsEachPosition() {
+        int pattern = GuessScorer.score("ALLAY", "LLAMA");
+        String expected = "YGYY.";
+        for (int i = 0; i < expected.length(); i++) {
+            assertEquals(pattern(expected.substring(i, i + 1)), GuessScorer.stateAt(pattern, i));
+        }
+    }
+
+    @Test
+    void patternCountCoversEveryPattern() {
+        assertEquals(243, GuessScorer.patternCount(5));
+        assertTrue(GuessScorer.solvedPattern(8) < GuessScorer.patternCount(8));
+    }
+
+    @Test
+    void rejectsWordsOfDifferentLengths() {
+        assertThrows(IllegalArgumentException.class, () -> GuessScorer.score("CRANES", "CRANE"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HardModeConstraintsTest {
+
+    private static HardModeConstraints afterGuesses(String secret, String... guesses) {
+        HardModeConstraints constraints = new HardModeConstraints(secret.length());
+        for (String guess : guesses) {
+            constraints.record(WordCodec.encodeLong(guess), GuessScorer.score(guess, secret));
+        }
+        return constraints;
+    }
+
+    private static String violation(HardModeConstraints constraints, String guess) {
+        return constraints.violation(WordCodec.encodeLong(guess));
+    }
+
+    @Test
+    void anyGuessIsAllowedBeforeTheFirstRow() {
+        HardModeConstraints constraints = new HardModeConstraints(5);
+        assertNull(violation(constraints, "CRANE"));
+        assertTrue(constraints.allows(WordCodec.encodeLong("ZZZZZ")));
+    }
+
+    @Test
+    void greenLetterMustStayInPlace() {
+        HardModeConstraints constraints = afterGuesses("CLOTH", "CRANE");
+        assertEquals("1st letter must be C", violation(constraints, "BLOTS"));
+        assertNull(violation(constraints, "CLOTH"));
+    }
+
+    @Test
+    void firstMisplacedGreenIsReported() {
+        HardModeConstraints constraints = afterGuesses("CRANE", "CRONY");
+        assertEquals("1st letter must be C", violation(constraints, "TRUCE"));
+        assertEquals("2nd letter must be R", violation(constraints, "CAROM"));
+    }
+
+    @Test
+    void revealedLetterMustBeUsed() {
+        HardModeConstraints constraints = afterGuesses("ROBIN", "CRANE");
+        assertEquals("Guess must contain N", violation(constraints, "TOUGH"));
+        assertEquals("Guess must contain R", violation(constraints, "NIGHT"));
+        assertNull(violation(constraints, "ROBIN"));
+    }
+
+    @Test
+    void repeatedLetterMustBeUsedAsOftenAsRevealed() {
+        HardModeConstraints constraints = afterGuesses("SPEED", "EXERT");
+        assertEquals("Guess must contain 2 Es", violation(constraints, "SHEAR"));
+        assertNull(violation(constraints, "THEME"));
+        assertEquals("3rd letter must be E", violation(constraints, "EERIE"));
+    }
+
+    @Test
+    void highestCountFromAnyRowIsKept() {
+        HardModeConstraints constraints = afterGuesses("SPEED", "EXERT", "PLANE");
+        assertEquals("Guess must contain 2 Es", violation(constraints, "PIECH"));
+        assertFalse(constraints.allows(WordCodec.encodeLong("PIECH")));
+    }
+
+    @Test
+    void copyIsIndependentOfLaterRows() {
+        HardModeConstraints constraints = afterGuesses("ROBIN", "CRANE");
+        HardModeConstraints copy = constraints.copy();
+        constraints.record(WordCodec.encodeLong("ROUTS"), GuessScorer.score("ROUTS", "ROBIN"));
+        assertEquals("1st letter must be R", violation(constraints, "NORTH"));
+        assertNull(violation(copy, "NORTH"));
+    }
+
+    @Test
+    void rejectsUnsupportedLengths() {
+        assertThrows(IllegalArgumentException.class, () -> new HardModeConstraints(0));
+        assertThrows(IllegalArgumentException.class, () -> new HardModeConstraints(GuessScorer.MAX_LENGTH + 1));
+    }
+}
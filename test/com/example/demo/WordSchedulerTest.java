@@ -0,0 +1,88 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WordSchedulerTest {
+    private static final WordValidator VALIDATOR = new WordValidator(5);
+
+    @TempDir
+    Path directory;
+
+    // Draws one full cycle and checks that every dictionary word came up exactly once
+    private static long[] drawCycle(WordScheduler scheduler) {
+        int size = VALIDATOR.getWordCount();
+        long[] codes = new long[size];
+        boolean[] seen = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            codes[i] = scheduler.nextWordCode();
+            int index = VALIDATOR.indexOf(codes[i]);
+            assertTrue(index >= 0, "dealt a word from the dictionary");
+            assertFalse(seen[index], "no repeat within a cycle: " + VALIDATOR.getWord(index));
+            seen[index] = true;
+        }
+        return codes;
+    }
+
+    @Test
+    void everyWordComesUpOncePerCycle() {
+        WordScheduler scheduler = new WordScheduler(VALIDATOR, 42);
+        long[] first = drawCycle(scheduler);
+        assertEquals(new WordScheduler.Cursor(42, 1, 0), scheduler.getCursor());
+        long[] second = drawCycle(scheduler);
+        assertFalse(Arrays.equals(first, second), "each cycle is shuffled anew");
+    }
+
+    @Test
+    void sameSeedDealsTheSameWords() {
+        WordScheduler a = new WordScheduler(VALIDATOR, 7);
+        WordScheduler b = new WordScheduler(VALIDATOR, 7);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextWordCode(), b.nextWordCode());
+        }
+    }
+
+    @Test
+    void schedulerFromACursorContinuesTheSequence() {
+        WordScheduler original = new WordScheduler(VALIDATOR, 99);
+        for (int i = 0; i < VALIDATOR.getWordCount() - 3; i++) {
+            original.nextWordCode();
+        }
+        WordScheduler resumed = new WordScheduler(VALIDATOR, original.getCursor());
+        for (int i = 0; i < 10; i++) {  // crosses into the next cycle
+            assertEquals(original.nextWordCode(), resumed.nextWordCode());
+        }
+        assertEquals(original.getCursor(), resumed.getCursor());
+    }
+
+    @Test
+    void cursorPastTheDictionaryStartsANewCycle() {
+        int size = VALIDATOR.getWordCount();
+        WordScheduler scheduler = new WordScheduler(VALIDATOR, new WordScheduler.Cursor(5, 2, size + 10));
+        assertEquals(new WordScheduler.Cursor(5, 3, 0), scheduler.getCursor());
+    }
+
+    @Test
+    void savedCursorsLoadBackByWordLength() throws IOException {
+        Path file = directory.resolve("schedule.bin");
+        Map<Integer, WordScheduler.Cursor> cursors = Map.of(
+                5, new WordScheduler.Cursor(0x1234_5678_9ABC_DEF0L, 3, 1200),
+                7, new WordScheduler.Cursor(-1L, 0, 0));
+        WordScheduler.save(file, cursors);
+        assertEquals(cursors, WordScheduler.load(file));
+    }
+
+    @Test
+    void missingScheduleFileLoadsNoCursors() throws IOException {
+        assertTrue(WordScheduler.load(directory.resolve("missing.bin")).isEmpty());
+    }
+}